@@ -0,0 +1,44 @@
+package com.sparta.igeomubwotna.config;
+
+import com.sparta.igeomubwotna.entity.IdSequences;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+// id_sequences 의 다음 id 를 각 테이블의 max(id) + 1 이상으로 맞춤
+// IDENTITY 로 저장된 기존 행이나 id 없이 직접 INSERT 한 행과 새로 할당하는 id 가 겹치지 않도록 시작 시 한 번 실행
+// (id_sequences 테이블은 ddl-auto 로 생성되므로 모든 빈(EntityManagerFactory 포함)이 만들어진 뒤 실행)
+@Slf4j(topic = "id 시퀀스")
+@Component
+@RequiredArgsConstructor
+public class IdSequenceInitializer implements SmartInitializingSingleton {
+
+    // 시퀀스 이름 -> 테이블 이름 (엔티티의 @TableGenerator pkColumnValue)
+    private static final Map<String, String> SEQUENCES = Map.of(
+            "recipe", "recipe",
+            "comment", "comment",
+            "users", "users");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        synchronize();
+    }
+
+    public void synchronize() {
+        SEQUENCES.forEach((sequence, table) -> {
+            String nextId = "select coalesce(max(id), 0) + 1 from " + table;
+            jdbcTemplate.update("insert ignore into " + IdSequences.TABLE + " (sequence_name, next_val) select ?, ("
+                    + nextId + ")", sequence);
+            // 줄이기만 하지 않도록 greatest 사용 (이미 할당된 구간을 다시 나눠 주지 않음)
+            jdbcTemplate.update("update " + IdSequences.TABLE + " set next_val = greatest(next_val, (" + nextId
+                    + ")) where sequence_name = ?", sequence);
+        });
+        log.debug("id sequences synchronized");
+    }
+}
@@ -1,11 +1,19 @@
 package com.sparta.igeomubwotna.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sparta.igeomubwotna.dto.SigninRequestDto;
 import com.sparta.igeomubwotna.filter.JwtAuthenticationFilter;
 import com.sparta.igeomubwotna.filter.JwtAuthorizationFilter;
+import com.sparta.igeomubwotna.jwt.AccessTokenRefresher;
 import com.sparta.igeomubwotna.jwt.JwtUtil;
+import com.sparta.igeomubwotna.jwt.TokenRevocationStore;
 import com.sparta.igeomubwotna.repository.UserRepository;
+import com.sparta.igeomubwotna.security.BoundedPasswordEncoder;
 import com.sparta.igeomubwotna.security.UserDetailsServiceImpl;
+import com.sparta.igeomubwotna.security.UserPrincipalCache;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -13,7 +21,6 @@ import org.springframework.security.config.annotation.authentication.configurati
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
@@ -27,10 +34,22 @@ public class SecurityConfig {
     private final UserDetailsServiceImpl userDetailsService; //사용자 정보를 로드하는 서비스
     private final AuthenticationConfiguration authenticationConfiguration; //인증 구성을 위한 클래스.
     private final UserRepository userRepository;
+    private final UserPrincipalCache principalCache; //인증된 사용자 정보 캐시
+    private final TokenRevocationStore revocationStore; //stateless 모드에서 로그아웃된 토큰 목록
+    private final AccessTokenRefresher tokenRefresher; //만료된 AccessToken 재발급 (동시 요청 병합)
+    private final ObjectMapper objectMapper; //애플리케이션 공용 ObjectMapper
 
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    // BCrypt 작업은 전용 스레드 풀에서 실행 (동시 실행 수, 대기열 제한)
+    public PasswordEncoder passwordEncoder(MeterRegistry meterRegistry,
+                                           @Value("${security.password.bcrypt-strength:10}") int strength,
+                                           @Value("${security.password.hash-threads:0}") int threads,
+                                           @Value("${security.password.hash-queue-capacity:64}") int queueCapacity,
+                                           @Value("${security.password.hash-wait-millis:3000}") long waitMillis,
+                                           @Value("${security.password.retry-after-seconds:1}") long retryAfterSeconds) {
+        // 0 이하이면 CPU 코어 수의 절반 (최소 1) 만큼만 사용하여 다른 요청이 처리될 여유를 남김
+        int poolSize = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        return new BoundedPasswordEncoder(strength, poolSize, queueCapacity, waitMillis, retryAfterSeconds, meterRegistry);
     }
 
     @Bean
@@ -43,7 +62,8 @@ public class SecurityConfig {
     // JWT 인증 필터를 빈으로 정의
     public JwtAuthenticationFilter jwtAuthenticationFilter() throws Exception {
         // 이 필터는 JWT를 사용하여 인증을 처리하며, 인증 관리자를 설정
-        JwtAuthenticationFilter filter = new JwtAuthenticationFilter(jwtUtil, userRepository);
+        JwtAuthenticationFilter filter = new JwtAuthenticationFilter(jwtUtil, userRepository, principalCache,
+                objectMapper.readerFor(SigninRequestDto.class));
         filter.setAuthenticationManager(authenticationManager(authenticationConfiguration));
         filter.setFilterProcessesUrl("/api/user/signin"); // 로그인 엔드포인트를 설정 (특정 작업을 수행하기 위해 서버에 요청을 보내는 url)
         return filter;
@@ -53,7 +73,7 @@ public class SecurityConfig {
     // JWT 인가(권한 부여) 필터를 빈으로 정의
     public JwtAuthorizationFilter jwtAuthorizationFilter() {
         // 이 필터는 JWT를 사용하여 권한 부여를 처리
-        return new JwtAuthorizationFilter(jwtUtil, userDetailsService, userRepository);
+        return new JwtAuthorizationFilter(jwtUtil, principalCache, revocationStore, tokenRefresher);
     }
 
     @Bean
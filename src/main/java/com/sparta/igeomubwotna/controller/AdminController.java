@@ -0,0 +1,54 @@
+package com.sparta.igeomubwotna.controller;
+
+import com.sparta.igeomubwotna.security.UserDetailsImpl;
+import com.sparta.igeomubwotna.service.RecipeExportService;
+import com.sparta.igeomubwotna.service.RecipeExportService.Format;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/admin")
+public class AdminController {
+
+    private final RecipeExportService recipeExportService;
+
+    // 레시피 전체 내보내기 (format : ndjson, csv / 작성일 필터는 getDateRecipe 와 같은 yyyyMMdd)
+    // 응답을 만드는 동안 행을 하나씩 읽어서 바로 씀
+    @GetMapping("/recipe/export")
+    public ResponseEntity<StreamingResponseBody> exportRecipes(@RequestParam(required = false, defaultValue = "ndjson", value = "format") String format,
+                                                               @RequestParam(required = false, value = "startdate") String startDate,
+                                                               @RequestParam(required = false, value = "enddate") String endDate,
+                                                               @RequestParam(required = false, defaultValue = "false", value = "gzip") boolean gzip,
+                                                               @AuthenticationPrincipal UserDetailsImpl userDetails) {
+        recipeExportService.checkAdmin(userDetails.getUser());
+
+        Format exportFormat = Format.valueOf(format.toUpperCase());
+        LocalDateTime startDateTime = startDate == null ? null
+                : LocalDate.parse(startDate, DateTimeFormatter.ofPattern("yyyyMMdd")).atTime(0, 0, 0);
+        LocalDateTime endDateTime = endDate == null ? null
+                : LocalDate.parse(endDate, DateTimeFormatter.ofPattern("yyyyMMdd")).atTime(23, 59, 59);
+
+        String fileName = "recipes." + exportFormat.name().toLowerCase() + (gzip ? ".gz" : "");
+        MediaType contentType = gzip ? MediaType.parseMediaType("application/gzip")
+                : exportFormat == Format.CSV ? MediaType.parseMediaType("text/csv;charset=UTF-8")
+                : MediaType.APPLICATION_NDJSON;
+
+        StreamingResponseBody body = out -> recipeExportService.export(exportFormat, startDateTime, endDateTime, gzip, out);
+        return ResponseEntity.status(HttpStatus.OK)
+                .contentType(contentType)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(fileName).build().toString())
+                .body(body);
+    }
+}
@@ -2,7 +2,9 @@ package com.sparta.igeomubwotna.controller;
 
 import com.sparta.igeomubwotna.dto.CommentRequestDto;
 import com.sparta.igeomubwotna.dto.CommentResponseDto;
+import com.sparta.igeomubwotna.dto.CursorResponseDto;
 import com.sparta.igeomubwotna.dto.Response;
+import com.sparta.igeomubwotna.entity.User;
 import com.sparta.igeomubwotna.security.UserDetailsImpl;
 import com.sparta.igeomubwotna.service.CommentService;
 import lombok.RequiredArgsConstructor;
@@ -10,6 +12,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -18,6 +21,8 @@ import java.util.List;
 @RequiredArgsConstructor
 public class CommentController {
 
+    private static final int DEFAULT_COMMENT_LIMIT = 20;
+
     private final CommentService commentService;
 
     /* Create */
@@ -29,9 +34,33 @@ public class CommentController {
     }
 
     /* Read */
+    // limit, cursor, sort 중 하나라도 주면 커서 방식 ({content, next}), 아니면 기존처럼 목록 (오래된 순 최대 100개)
     @GetMapping
-    public ResponseEntity<List<CommentResponseDto>> getComment(@PathVariable Long recipeId) {
-        return ResponseEntity.ok().body(commentService.getComment(recipeId));
+    public ResponseEntity getComment(@PathVariable Long recipeId,
+                                     @RequestParam(required = false, value = "limit") Integer limit,
+                                     @RequestParam(required = false, value = "cursor") String cursor,
+                                     @RequestParam(required = false, value = "sort") String sort,
+                                     @AuthenticationPrincipal UserDetailsImpl userDetails,
+                                     WebRequest webRequest) {
+        User viewer = userDetails != null ? userDetails.getUser() : null;
+        // 응답할 페이지로 ETag 를 만들고, If-None-Match 가 같으면 본문 없이 304
+        if (limit == null && cursor == null && sort == null) {
+            List<CommentResponseDto> comments = commentService.getComment(recipeId, viewer);
+            if (notModified(webRequest, commentService.getCommentsETag(recipeId, comments, null))) {
+                return null;
+            }
+            return ResponseEntity.ok().body(comments);
+        }
+        CursorResponseDto<CommentResponseDto> page = commentService.getCommentPage(recipeId,
+                limit != null ? limit : DEFAULT_COMMENT_LIMIT, cursor, sort != null ? sort : "newest", viewer);
+        if (notModified(webRequest, commentService.getCommentsETag(recipeId, page.getContent(), page.getNext()))) {
+            return null;
+        }
+        return ResponseEntity.ok().body(page);
+    }
+
+    private boolean notModified(WebRequest webRequest, String eTag) {
+        return eTag != null && webRequest.checkNotModified(eTag);
     }
 
     /* Update */
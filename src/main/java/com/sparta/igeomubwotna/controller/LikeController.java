@@ -7,6 +7,8 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @RestController
 @RequiredArgsConstructor
 public class LikeController {
@@ -32,4 +34,36 @@ public class LikeController {
     public ResponseEntity removeCommentLike(@PathVariable Long commentLikeId, @AuthenticationPrincipal UserDetailsImpl userDetails) {
         return likeService.removeCommentLike(commentLikeId, userDetails.getUser());
     }
+
+    // 대상 id 기준 좋아요 (PUT: 좋아요 상태로, DELETE: 좋아요 해제) - 여러 번 요청해도 결과가 같음
+    @PutMapping("/api/like/recipe/{recipeId}")
+    public ResponseEntity likeRecipe(@PathVariable Long recipeId, @AuthenticationPrincipal UserDetailsImpl userDetails) {
+        return likeService.likeRecipe(recipeId, userDetails.getUser());
+    }
+
+    @DeleteMapping("/api/like/recipe/{recipeId}")
+    public ResponseEntity unlikeRecipe(@PathVariable Long recipeId, @AuthenticationPrincipal UserDetailsImpl userDetails) {
+        return likeService.unlikeRecipe(recipeId, userDetails.getUser());
+    }
+
+    @PutMapping("/api/like/comment/{commentId}")
+    public ResponseEntity likeComment(@PathVariable Long commentId, @AuthenticationPrincipal UserDetailsImpl userDetails) {
+        return likeService.likeComment(commentId, userDetails.getUser());
+    }
+
+    @DeleteMapping("/api/like/comment/{commentId}")
+    public ResponseEntity unlikeComment(@PathVariable Long commentId, @AuthenticationPrincipal UserDetailsImpl userDetails) {
+        return likeService.unlikeComment(commentId, userDetails.getUser());
+    }
+
+    // 여러 대상의 좋아요 여부를 한 번에 조회 (예: ?ids=1,2,3) - 좋아요한 id 목록 응답
+    @GetMapping("/api/like/recipe")
+    public ResponseEntity getLikedRecipeIds(@RequestParam("ids") List<Long> recipeIds, @AuthenticationPrincipal UserDetailsImpl userDetails) {
+        return likeService.getLikedRecipeIds(recipeIds, userDetails.getUser());
+    }
+
+    @GetMapping("/api/like/comment")
+    public ResponseEntity getLikedCommentIds(@RequestParam("ids") List<Long> commentIds, @AuthenticationPrincipal UserDetailsImpl userDetails) {
+        return likeService.getLikedCommentIds(commentIds, userDetails.getUser());
+    }
 }
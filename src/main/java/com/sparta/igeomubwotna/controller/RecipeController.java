@@ -1,18 +1,26 @@
 package com.sparta.igeomubwotna.controller;
 
+import com.sparta.igeomubwotna.dto.RecipeImportResultDto;
 import com.sparta.igeomubwotna.dto.RecipeRequestDto;
 import com.sparta.igeomubwotna.dto.RecipeResponseDto;
+import com.sparta.igeomubwotna.entity.User;
 import com.sparta.igeomubwotna.security.UserDetailsImpl;
+import com.sparta.igeomubwotna.service.RecipeImportService;
 import com.sparta.igeomubwotna.service.RecipeService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.validation.BindingResult;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 
 @Slf4j
@@ -22,6 +30,7 @@ import java.util.List;
 public class RecipeController {
 
     private final RecipeService recipeService;
+    private final RecipeImportService recipeImportService;
 
     @PostMapping("/")
     public ResponseEntity saveRecipe(@Valid @RequestBody RecipeRequestDto requestDto,
@@ -38,8 +47,43 @@ public class RecipeController {
 
     }
 
+    // 한 줄에 레시피 하나씩 (application/x-ndjson), 줄마다 저장된 id 또는 실패 사유를 응답
+    @PostMapping(value = "/import", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<RecipeImportResultDto> importRecipes(InputStream body,
+                                                               @AuthenticationPrincipal UserDetailsImpl userDetails) throws IOException {
+        return ResponseEntity.status(HttpStatus.OK).body(recipeImportService.importRecipes(body, userDetails.getUser()));
+    }
+
+    // 제목, 내용 검색 (page 는 1부터)
+    @GetMapping("/search")
+    public ResponseEntity searchRecipes(@RequestParam("q") String query,
+                                        @RequestParam(required = false, defaultValue = "1", value = "page") int page,
+                                        @AuthenticationPrincipal UserDetailsImpl userDetails) {
+        User viewer = userDetails != null ? userDetails.getUser() : null;
+        return recipeService.searchRecipes(query, page - 1, viewer);
+    }
+
+    // 제목 자동완성 (검색창 입력마다 호출)
+    @GetMapping("/suggest")
+    public ResponseEntity suggestTitles(@RequestParam("q") String prefix,
+                                        @RequestParam(required = false, defaultValue = "5", value = "size") int size) {
+        return recipeService.suggestTitles(prefix, size);
+    }
+
+    // 인기 급상승 레시피 (window : hour, day)
+    @GetMapping("/trending")
+    public ResponseEntity getTrending(@RequestParam(required = false, defaultValue = "hour", value = "window") String window,
+                                      @RequestParam(required = false, defaultValue = "10", value = "size") int size) {
+        return recipeService.getTrending(window, size);
+    }
+
+    // If-None-Match 가 현재 ETag 와 같으면 본문 없이 304
     @GetMapping("/{recipeId}")
-    public ResponseEntity getRecipe(@PathVariable Long recipeId) {
+    public ResponseEntity getRecipe(@PathVariable Long recipeId, WebRequest webRequest) {
+        String eTag = recipeService.getRecipeETag(recipeId);
+        if (eTag != null && webRequest.checkNotModified(eTag)) {
+            return null;
+        }
         return recipeService.getRecipe(recipeId);
     }
 
@@ -50,16 +94,25 @@ public class RecipeController {
         return recipeService.editRecipe(recipeId, requestDto, userDetails.getUser());
     }
 
+    // async=true 면 바로 숨기고 댓글, 좋아요 삭제는 백그라운드에서 (202)
     @DeleteMapping("/{recipeId}")
     public ResponseEntity deleteRecipe(@PathVariable Long recipeId,
+                                       @RequestParam(required = false, defaultValue = "false", value = "async") boolean async,
                                        @AuthenticationPrincipal UserDetailsImpl userDetails) {
-        return recipeService.deleteRecipe(recipeId, userDetails.getUser());
+        return recipeService.deleteRecipe(recipeId, userDetails.getUser(), async);
     }
 
     @GetMapping("/")
-    public ResponseEntity getAllRecipe(@RequestParam("page") int page,
-                                       @RequestParam(required = false, defaultValue = "createdAt", value = "sortBy") String sortBy) {
-        return recipeService.getAllRecipe(page - 1, sortBy);
+    public ResponseEntity getAllRecipe(@RequestParam(required = false, value = "page") Integer page,
+                                       @RequestParam(required = false, defaultValue = "createdAt", value = "sortBy") String sortBy,
+                                       @RequestParam(required = false, value = "cursor") String cursor,
+                                       @AuthenticationPrincipal UserDetailsImpl userDetails) {
+        User viewer = userDetails != null ? userDetails.getUser() : null;
+        // page 를 주면 기존 페이지 번호 방식, 없으면 커서 방식 (next 커서를 다음 요청의 cursor 로 전달)
+        if (page != null) {
+            return recipeService.getAllRecipe(page - 1, sortBy, viewer);
+        }
+        return recipeService.getRecipeFeed(sortBy, cursor, viewer);
     }
 
     @GetMapping("/date/")
@@ -3,12 +3,17 @@ package com.sparta.igeomubwotna.controller;
 import com.sparta.igeomubwotna.dto.*;
 import com.sparta.igeomubwotna.security.UserDetailsImpl;
 import com.sparta.igeomubwotna.service.UserService;
+import com.sparta.igeomubwotna.util.ETags;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 
 @RestController
 @RequiredArgsConstructor
@@ -23,9 +28,17 @@ public class UserController {
     }
 
     @GetMapping("/me")
-    public ResponseEntity<UserProfileDto> getCurrentUserProfile(@AuthenticationPrincipal UserDetailsImpl userDetails) {
+    public ResponseEntity<UserProfileDto> getCurrentUserProfile(@AuthenticationPrincipal UserDetailsImpl userDetails,
+                                                                WebRequest webRequest) {
+        Long id = userDetails.getUser().getId();
+        // 수정 시각만 조회해서 If-None-Match / If-Modified-Since 가 맞으면 본문 없이 304
+        LocalDateTime modifiedAt = userService.getProfileModifiedAt(id);
+        if (modifiedAt != null && webRequest.checkNotModified(ETags.weak(id, modifiedAt),
+                modifiedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli())) {
+            return null;
+        }
         // 인증 객체에서 사용자 정보를 추출
-        UserProfileDto userProfile = userService.getUserProfile(userDetails.getUser().getId());
+        UserProfileDto userProfile = userService.getUserProfile(id);
         return ResponseEntity.ok(userProfile);
     }
 
@@ -1,9 +1,11 @@
 package com.sparta.igeomubwotna.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.sparta.igeomubwotna.entity.Comment;
 
 import lombok.AllArgsConstructor;
 import lombok.Getter;
+import lombok.Setter;
 
 import java.time.LocalDateTime;
 
@@ -15,6 +17,10 @@ public class CommentResponseDto {
     private String userId;
     private LocalDateTime createdAt;
     private Long likeCount;
+    // 로그인 사용자가 좋아요를 눌렀는지 (목록 조회에서만 채움)
+    @Setter
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Boolean likedByMe;
 
     public CommentResponseDto(Long id, String content, String userId, LocalDateTime createdAt, Long likeCount) {
         this.id = id;
@@ -25,12 +31,17 @@ public class CommentResponseDto {
     }
 
     public static CommentResponseDto toDto(Comment comment) {
+        return toDto(comment, 0L);
+    }
+
+    // pendingLikes : 아직 DB에 반영되지 않은 좋아요 증감
+    public static CommentResponseDto toDto(Comment comment, long pendingLikes) {
         return new CommentResponseDto(
                 comment.getId(),
                 comment.getContent(),
                 comment.getUser().getUserId(),
                 comment.getCreatedAt(),
-                comment.getLikeCount()
+                comment.getLikeCount() == null ? null : comment.getLikeCount() + pendingLikes
         );
     }
 }
@@ -0,0 +1,14 @@
+package com.sparta.igeomubwotna.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+// 커서 기반 목록 응답 (next 가 null 이면 마지막 페이지)
+@Getter
+@AllArgsConstructor
+public class CursorResponseDto<T> {
+    private List<T> content;
+    private String next;
+}
@@ -0,0 +1,7 @@
+package com.sparta.igeomubwotna.dto;
+
+import java.time.LocalDateTime;
+
+// 조건부 GET(ETag) 계산용 버전 정보 (행 수, 마지막 수정 시각, 좋아요 수 합계)
+public record EntityVersion(Long count, LocalDateTime lastModifiedAt, Long likes) {
+}
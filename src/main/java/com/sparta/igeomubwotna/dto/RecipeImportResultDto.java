@@ -0,0 +1,34 @@
+package com.sparta.igeomubwotna.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+// 레시피 일괄 등록 결과 (줄 번호별로 저장된 id 또는 실패 사유)
+@Getter
+@AllArgsConstructor
+public class RecipeImportResultDto {
+    private int total;
+    private int saved;
+    private int failed;
+    private List<LineResult> results;
+
+    @Getter
+    @AllArgsConstructor
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class LineResult {
+        private int line;
+        private Long id;
+        private String error;
+
+        public static LineResult saved(int line, Long id) {
+            return new LineResult(line, id, null);
+        }
+
+        public static LineResult failed(int line, String error) {
+            return new LineResult(line, null, error);
+        }
+    }
+}
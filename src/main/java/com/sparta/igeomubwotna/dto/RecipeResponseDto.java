@@ -1,25 +1,57 @@
 package com.sparta.igeomubwotna.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.sparta.igeomubwotna.entity.Recipe;
 import lombok.Getter;
+import lombok.Setter;
 
 import java.time.LocalDateTime;
 
 @Getter
 public class RecipeResponseDto {
+    Long id;
     String title;
     String content;
     String userId;
     Long recipeLikes;
     LocalDateTime createdAt;
     LocalDateTime modifiedAt;
+    // 로그인 사용자가 좋아요를 눌렀는지 (목록 조회에서만 채움)
+    @Setter
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    Boolean likedByMe;
 
     public RecipeResponseDto(Recipe recipe) {
+        this(recipe, 0L);
+    }
+
+    // pendingLikes : 아직 DB에 반영되지 않은 좋아요 증감
+    public RecipeResponseDto(Recipe recipe, long pendingLikes) {
+        this.id = recipe.getId();
         this.title = recipe.getTitle();
         this.content = recipe.getContent();
         this.userId = recipe.getUser().getUserId();
-        this.recipeLikes = recipe.getRecipeLikes();
+        this.recipeLikes = recipe.getRecipeLikes() == null ? null : recipe.getRecipeLikes() + pendingLikes;
         this.createdAt = recipe.getCreatedAt();
         this.modifiedAt = recipe.getModifiedAt();
     }
+
+    private RecipeResponseDto(RecipeResponseDto source, Long recipeLikes) {
+        this.id = source.id;
+        this.title = source.title;
+        this.content = source.content;
+        this.userId = source.userId;
+        this.recipeLikes = recipeLikes;
+        this.createdAt = source.createdAt;
+        this.modifiedAt = source.modifiedAt;
+        this.likedByMe = source.likedByMe;
+    }
+
+    // 캐시된 응답은 그대로 두고, 아직 DB에 반영되지 않은 좋아요 증감을 더한 복사본 반환
+    public RecipeResponseDto withPendingLikes(long pendingLikes) {
+        if (pendingLikes == 0 || recipeLikes == null) {
+            return this;
+        }
+        return new RecipeResponseDto(this, recipeLikes + pendingLikes);
+    }
 }
@@ -9,22 +9,29 @@ import lombok.Setter;
 @Entity
 @Getter
 @Setter
-@Table(name = "comment")
+@Table(name = "comment", indexes = {
+        // 레시피별 댓글 목록 커서 정렬용
+        @Index(name = "idx_comment_recipe_created_at_id", columnList = "recipe_id, created_at, id"),
+        @Index(name = "idx_comment_recipe_like_count_id", columnList = "recipe_id, like_count, id")
+})
 @NoArgsConstructor
 public class Comment extends Timestamped {
 
     /* Column */
     //ID
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // 테이블 기반 id 할당 (IdSequences 참고)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "comment_id")
+    @TableGenerator(name = "comment_id", table = IdSequences.TABLE, pkColumnName = "sequence_name",
+            valueColumnName = "next_val", pkColumnValue = "comment", allocationSize = IdSequences.ALLOCATION_SIZE)
     private Long id;
 
     //내용
     @Column(nullable = false)
     private String content;
 
-    //좋아요 수
-    @Column
+    //좋아요 수 (SQL 로만 증감, 댓글 수정 시 덮어쓰지 않도록 updatable = false)
+    @Column(updatable = false)
     private Long likeCount = 0L;
 
     /* Mapping */
@@ -38,14 +45,6 @@ public class Comment extends Timestamped {
     @JoinColumn(name = "recipe_id")
     private Recipe recipe;
 
-    public void addLike() {
-        this.likeCount = likeCount + 1L;
-    }
-
-    public void minusLike() {
-        this.likeCount = likeCount - 1L;
-    }
-
     /* Constructor */
     public Comment(CommentRequestDto requestDto, Recipe recipe, User user) {
         this.content = requestDto.getContent();
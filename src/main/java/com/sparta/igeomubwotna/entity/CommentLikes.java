@@ -7,7 +7,10 @@ import lombok.NoArgsConstructor;
 
 @Entity
 @Getter
-@Table
+@Table(uniqueConstraints = {
+        // 한 사용자는 같은 대상에 좋아요를 한 번만 (중복 요청은 DB에서 막음)
+        @UniqueConstraint(name = "uk_comment_likes_user_comment", columnNames = {"user_id", "comment_id"})
+})
 @NoArgsConstructor
 public class CommentLikes extends Timestamped {
     @Id
@@ -0,0 +1,14 @@
+package com.sparta.igeomubwotna.entity;
+
+// 레시피, 댓글, 사용자 id 생성 설정
+// IDENTITY 는 persist 시점에 INSERT 를 바로 실행해야 id 를 알 수 있어서 Hibernate 가 INSERT 를 배치로 묶지 못함
+// id_sequences 테이블에서 ALLOCATION_SIZE 개씩 미리 할당받아 (pooled-lo) 메모리에서 나눠 주므로 INSERT 를 모아서 실행 가능
+// 좋아요 테이블은 INSERT IGNORE 한 문장으로 저장하므로 (DB의 AUTO_INCREMENT 사용) IDENTITY 유지
+public final class IdSequences {
+
+    public static final String TABLE = "id_sequences";
+    public static final int ALLOCATION_SIZE = 50;
+
+    private IdSequences() {
+    }
+}
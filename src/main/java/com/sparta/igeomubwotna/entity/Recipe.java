@@ -2,7 +2,8 @@ package com.sparta.igeomubwotna.entity;
 
 import com.sparta.igeomubwotna.dto.RecipeRequestDto;
 import jakarta.persistence.*;
-import lombok.AllArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.SQLRestriction;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
@@ -10,14 +11,26 @@ import lombok.Setter;
 @Entity
 @Getter
 @Setter
-@Table(name = "recipe")
+@Table(name = "recipe", indexes = {
+        // 목록 정렬용 (정렬 값, id), RecipeSort 참고
+        @Index(name = "idx_recipe_created_at_id", columnList = "created_at, id"),
+        @Index(name = "idx_recipe_likes_id", columnList = "recipe_likes, id"),
+        @Index(name = "idx_recipe_modified_at_id", columnList = "modified_at, id"),
+        @Index(name = "idx_recipe_comment_count_id", columnList = "comment_count, id"),
+        // 숨긴 레시피 정리용 (RecipePurgeService.sweep 이 전체 행을 읽지 않도록)
+        @Index(name = "idx_recipe_deleted_id", columnList = "deleted, id")
+})
+// 삭제 요청된 레시피는 자식 데이터를 지우는 동안 모든 JPA 조회에서 제외
+@SQLRestriction("deleted = false")
 @NoArgsConstructor
-@AllArgsConstructor
 public class Recipe extends Timestamped {
 
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // 테이블 기반 id 할당 (IdSequences 참고)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "recipe_id")
+    @TableGenerator(name = "recipe_id", table = IdSequences.TABLE, pkColumnName = "sequence_name",
+            valueColumnName = "next_val", pkColumnValue = "recipe", allocationSize = IdSequences.ALLOCATION_SIZE)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -30,15 +43,26 @@ public class Recipe extends Timestamped {
     @Column(nullable = false)
     private String content;
 
-    @Column
+    // 좋아요 수, 댓글 수는 SQL 로만 증감 (updatable = false : 레시피 수정 시 읽어 둔 이전 값으로 덮어쓰지 않도록)
+    @Column(updatable = false)
     private Long recipeLikes;
 
-    public void addLike() {
-        this.recipeLikes = recipeLikes + 1L;
-    }
+    // 댓글 수 (댓글 수 정렬용, 댓글 작성/삭제 시 증감하고 RecipeCommentCountReconciler 가 주기적으로 다시 셈)
+    @Column(nullable = false, updatable = false)
+    @ColumnDefault("0")
+    private long commentCount;
+
+    // 삭제 요청됨 (댓글, 좋아요를 나눠서 지운 뒤 마지막에 행 삭제)
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    private boolean deleted;
 
-    public void minusLike() {
-        this.recipeLikes = recipeLikes - 1L;
+    public Recipe(Long id, User user, String title, String content, Long recipeLikes) {
+        this.id = id;
+        this.user = user;
+        this.title = title;
+        this.content = content;
+        this.recipeLikes = recipeLikes;
     }
 
     public Recipe(RecipeRequestDto requestDto, User user) {
@@ -7,7 +7,10 @@ import lombok.NoArgsConstructor;
 
 @Entity
 @Getter
-@Table
+@Table(uniqueConstraints = {
+        // 한 사용자는 같은 대상에 좋아요를 한 번만 (중복 요청은 DB에서 막음)
+        @UniqueConstraint(name = "uk_recipe_likes_user_recipe", columnNames = {"user_id", "recipe_id"})
+})
 @NoArgsConstructor
 public class RecipeLikes extends Timestamped {
     @Id
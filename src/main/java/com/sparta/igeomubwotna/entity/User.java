@@ -20,7 +20,10 @@ import java.util.List;
 @Table(name = "users")
 public class User extends Timestamped {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // 테이블 기반 id 할당 (IdSequences 참고)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "users_id")
+    @TableGenerator(name = "users_id", table = IdSequences.TABLE, pkColumnName = "sequence_name",
+            valueColumnName = "next_val", pkColumnValue = "users", allocationSize = IdSequences.ALLOCATION_SIZE)
     private Long id;
 
     @Column(nullable = false, unique = true)
@@ -45,16 +48,21 @@ public class User extends Timestamped {
     @Column
     private String refreshToken;
 
+    // 로그아웃, 탈퇴 시 증가하여 이전에 발급된 AccessToken을 무효화하는 세대 값
+    @Column
+    private Long tokenGeneration = 0L;
+
     @LastModifiedDate
     @Column
     @Temporal(TemporalType.TIMESTAMP)
     private LocalDateTime statusModifiedAt;
 
 
-    @OneToMany(mappedBy = "user", cascade = CascadeType.REMOVE)
+    // 회원 삭제는 UserPurgeService 가 집합 단위로 처리 (cascade 로 전부 불러와 한 건씩 지우지 않음)
+    @OneToMany(mappedBy = "user")
     private List<Recipe> recipes = new ArrayList<>();
 
-    @OneToMany(mappedBy = "user", cascade = CascadeType.REMOVE)
+    @OneToMany(mappedBy = "user")
     private List<Comment> comments = new ArrayList<>();
 
 
@@ -87,6 +95,15 @@ public class User extends Timestamped {
     }
 
 
+    public long getTokenGeneration() {
+        return tokenGeneration == null ? 0L : tokenGeneration;
+    }
+
+    public void increaseTokenGeneration() {
+        this.tokenGeneration = getTokenGeneration() + 1L;
+    }
+
+
     public boolean isWithdrawn() {
         return this.status == UserStatusEnum.WITHDRAWN;
     }
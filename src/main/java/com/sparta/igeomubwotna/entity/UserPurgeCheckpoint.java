@@ -0,0 +1,42 @@
+package com.sparta.igeomubwotna.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 탈퇴 회원 데이터 삭제 진행 상황 (중단되면 다음 실행에서 완료된 단계는 건너뜀)
+@Entity
+@Getter
+@NoArgsConstructor
+@Table(name = "user_purge_checkpoint")
+public class UserPurgeCheckpoint extends Timestamped {
+
+    // 삭제 순서 (레시피를 먼저 숨긴 뒤 FK 를 참조하는 쪽부터)
+    public enum Phase {
+        HIDE_RECIPES,       // 회원의 레시피 숨김 (이후 단계 사이에 새 좋아요, 댓글이 달리지 않도록)
+        USER_LIKES,         // 회원이 누른 좋아요
+        COMMENT_LIKES,      // 회원의 댓글, 회원 레시피의 댓글에 달린 좋아요
+        COMMENTS,           // 회원의 댓글, 회원 레시피의 댓글
+        RECIPE_LIKES,       // 회원 레시피에 달린 좋아요
+        RECIPES,            // 회원의 레시피 (숨긴 뒤에 달린 좋아요, 댓글 포함)
+        USER                // 회원
+    }
+
+    // users.id
+    @Id
+    private Long userId;
+
+    // 다음에 실행할 단계
+    @Column(nullable = false)
+    @Enumerated(value = EnumType.STRING)
+    private Phase phase;
+
+    public UserPurgeCheckpoint(Long userId, Phase phase) {
+        this.userId = userId;
+        this.phase = phase;
+    }
+
+    public void moveTo(Phase phase) {
+        this.phase = phase;
+    }
+}
@@ -1,15 +1,18 @@
 package com.sparta.igeomubwotna.filter;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import com.sparta.igeomubwotna.dto.SigninRequestDto;
 import com.sparta.igeomubwotna.jwt.JwtUtil;
 import com.sparta.igeomubwotna.repository.UserRepository;
+import com.sparta.igeomubwotna.security.PasswordHashingRejectedException;
 import com.sparta.igeomubwotna.security.UserDetailsImpl;
+import com.sparta.igeomubwotna.security.UserPrincipalCache;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.AuthenticationException;
@@ -22,13 +25,16 @@ import java.io.IOException;
 public class JwtAuthenticationFilter extends UsernamePasswordAuthenticationFilter {
     private final JwtUtil jwtUtil;
     private final UserRepository userRepository;
+    private final UserPrincipalCache principalCache;
+    // 애플리케이션 공용 ObjectMapper 로 만든 SigninRequestDto 전용 reader (thread-safe, 요청마다 생성하지 않음)
+    private final ObjectReader signinReader;
 
     // 로그인 시도 처리
     @Override
     public Authentication attemptAuthentication(HttpServletRequest request, HttpServletResponse response) throws AuthenticationException {
         try {
             // 요청에서 로그인 정보를 읽어와 DTO에 매핑
-            SigninRequestDto requestDto = new ObjectMapper().readValue(request.getInputStream(), SigninRequestDto.class);
+            SigninRequestDto requestDto = signinReader.readValue(request.getInputStream());
 
             // 인증 매니저를 통해 사용자 인증 시도
             return getAuthenticationManager().authenticate(
@@ -38,6 +44,10 @@ public class JwtAuthenticationFilter extends UsernamePasswordAuthenticationFilte
                             null  // 권한 목록은 null로 전달
                     )
             );
+        } catch (PasswordHashingRejectedException e) {
+            // 비밀번호 확인 대기열이 가득 찬 경우 바로 거절 (null 반환 시 이후 처리 없이 응답 종료)
+            writeServiceUnavailable(response, e);
+            return null;
         } catch (IOException e) {
             // 예외 발생 시 로그 출력 및 RuntimeException 던지기
             log.error(e.getMessage());
@@ -49,11 +59,12 @@ public class JwtAuthenticationFilter extends UsernamePasswordAuthenticationFilte
     // 로그인 성공 시 처리
     @Override
     protected void successfulAuthentication(HttpServletRequest request, HttpServletResponse response, FilterChain chain, Authentication authResult) throws IOException {
-        // 사용자 아이디와 역할 정보를 가져옴
-        String userId = ((UserDetailsImpl) authResult.getPrincipal()).getUsername();
-//        UserRoleEnum role = ((UserDetailsImpl) authResult.getPrincipal()).getUser().getRole();
+        // 인증 과정에서 이미 조회한 사용자 정보를 그대로 사용 (추가 조회 없음)
+        UserDetailsImpl principal = (UserDetailsImpl) authResult.getPrincipal();
+        String userId = principal.getUsername();
+//        UserRoleEnum role = principal.getUser().getRole();
 
-        if (userRepository.findByUserId(userId).get().isWithdrawn()) {
+        if (principal.getUser().isWithdrawn()) {
             response.setCharacterEncoding("UTF-8");
             response.getWriter().write("이미 탈퇴한 회원입니다.");  // 탈퇴한 사용자는 로그인 못함
 
@@ -61,7 +72,7 @@ public class JwtAuthenticationFilter extends UsernamePasswordAuthenticationFilte
         }
 
         // AccessToken 생성
-        String accessToken = jwtUtil.createAccessToken(userId);
+        String accessToken = jwtUtil.createAccessToken(principal.getUser());
         // 응답 헤더에 AccessToken 추가
         response.addHeader(JwtUtil.ACCESS_HEADER, accessToken);
         // 응답 헤더에 userId 추가
@@ -70,19 +81,27 @@ public class JwtAuthenticationFilter extends UsernamePasswordAuthenticationFilte
         // RefreshToken 생성
         String refreshToken = jwtUtil.createRefreshToken(userId);
 
-        // 로그인시 RefreshToken을 user DB에 저장
-        userRepository.findByUserId(userId).ifPresent(
-                user -> {
-                    user.updateRefreshToken(refreshToken);
-                    userRepository.save(user);
-                }
-        );
+        // 로그인시 RefreshToken을 user DB에 저장 (refresh_token 컬럼만 UPDATE)
+        userRepository.updateRefreshToken(userId, refreshToken);
+        // 캐시에 남아있는 이전 RefreshToken 정보 제거
+        principalCache.evict(userId);
 
         // 한국어 쓰기위해 인코딩
         response.setCharacterEncoding("UTF-8");
         response.getWriter().write("로그인 성공.");
     }
 
+    private void writeServiceUnavailable(HttpServletResponse response, PasswordHashingRejectedException e) {
+        try {
+            response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()));
+            response.setCharacterEncoding("UTF-8");
+            response.getWriter().write(e.getReason());
+        } catch (IOException ioException) {
+            log.error(ioException.getMessage());
+        }
+    }
+
     // 로그인 실패 시 처리
     @Override
     protected void unsuccessfulAuthentication(HttpServletRequest request, HttpServletResponse response, AuthenticationException failed) throws IOException {
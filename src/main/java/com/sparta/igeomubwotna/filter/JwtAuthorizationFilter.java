@@ -1,9 +1,13 @@
 package com.sparta.igeomubwotna.filter;
 
 import com.sparta.igeomubwotna.entity.User;
+import com.sparta.igeomubwotna.entity.UserStatusEnum;
+import com.sparta.igeomubwotna.jwt.AccessTokenRefresher;
 import com.sparta.igeomubwotna.jwt.JwtUtil;
-import com.sparta.igeomubwotna.repository.UserRepository;
-import com.sparta.igeomubwotna.security.UserDetailsServiceImpl;
+import com.sparta.igeomubwotna.jwt.TokenRevocationStore;
+import com.sparta.igeomubwotna.jwt.TokenValidationResult;
+import com.sparta.igeomubwotna.security.UserDetailsImpl;
+import com.sparta.igeomubwotna.security.UserPrincipalCache;
 import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -15,6 +19,7 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
@@ -25,13 +30,17 @@ import java.util.Optional;
 public class JwtAuthorizationFilter extends OncePerRequestFilter {
 
     private final JwtUtil jwtUtil;
-    private final UserDetailsServiceImpl userDetailsService;
-    private final UserRepository userRepository;
+    // 요청마다 DB를 조회하지 않도록 사용자 정보를 캐시에서 가져옴
+    private final UserPrincipalCache principalCache;
+    private final TokenRevocationStore revocationStore;
+    private final AccessTokenRefresher tokenRefresher;
 
-    public JwtAuthorizationFilter(JwtUtil jwtUtil, UserDetailsServiceImpl userDetailsService, UserRepository userRepository) {
+    public JwtAuthorizationFilter(JwtUtil jwtUtil, UserPrincipalCache principalCache, TokenRevocationStore revocationStore,
+                                  AccessTokenRefresher tokenRefresher) {
         this.jwtUtil = jwtUtil;
-        this.userDetailsService = userDetailsService;
-        this.userRepository = userRepository;
+        this.principalCache = principalCache;
+        this.revocationStore = revocationStore;
+        this.tokenRefresher = tokenRefresher;
     }
 
     @Override
@@ -43,10 +52,15 @@ public class JwtAuthorizationFilter extends OncePerRequestFilter {
             return; // 필터 체인을 빠져나갑니다.
         }
 
+        // stateless 모드: 유효한 AccessToken이면 claim 만으로 인가 (DB, 캐시 조회 없음)
+        if (jwtUtil.isStatelessEnabled() && authorizeStateless(req, res, filterChain)) {
+            return;
+        }
+
         // HTTP 요청에서 UserId 추출
         String userId = jwtUtil.getUserIdFromHeader(req);
 
-        Optional<User> userOptional = userRepository.findByUserId(userId);
+        Optional<User> userOptional = principalCache.get(userId);
 
         // 사용자가 존재하지 않는 경우 또는 사용자가 탈퇴한 경우 처리
         if (userOptional.isEmpty() || userOptional.get().isWithdrawn()) {
@@ -71,13 +85,17 @@ public class JwtAuthorizationFilter extends OncePerRequestFilter {
             }
 
             if (StringUtils.hasText(accessToken)) {
-                // Access 토큰 유효성 검증
-                if (!jwtUtil.validateAccessToken(accessToken, refreshToken, res)) {
+                // Access 토큰 유효성 검증과 사용자 정보(Claims) 추출을 한 번에 처리
+                TokenValidationResult result = jwtUtil.validateAccessToken(accessToken);
+                if (!result.isValid()) {
+                    // 만료된 경우 RefreshToken으로 재발급 (동시에 들어온 요청은 같은 토큰을 공유)
+                    if (result.isExpired()) {
+                        tokenRefresher.refresh(userOptional.get(), res);
+                    }
                     // 유효하지 않은 토큰이면 에러 로깅 후 종료
                     return;
                 }
-                // JWT 토큰으로부터 사용자 정보(Claims) 추출
-                Claims info = jwtUtil.getUserInfoFromToken(accessToken);
+                Claims info = result.getClaims();
 
                 try {
                     // 사용자 인증 처리
@@ -94,13 +112,48 @@ public class JwtAuthorizationFilter extends OncePerRequestFilter {
         filterChain.doFilter(req, res);
     }
 
+    // claim 으로 요청을 처리했다면 true, 만료 등으로 DB 조회 방식이 필요하면 false
+    private boolean authorizeStateless(HttpServletRequest req, HttpServletResponse res, FilterChain filterChain) throws ServletException, IOException {
+        String accessToken = jwtUtil.getAccessTokenFromHeader(req);
+        if (!StringUtils.hasText(accessToken)) {
+            return false;
+        }
+
+        Claims info = jwtUtil.getStatelessClaims(accessToken);
+        if (info == null) {
+            return false;
+        }
+
+        User user = new User();
+        user.setId(info.get(JwtUtil.CLAIM_USER_PK, Long.class));
+        user.setUserId(info.getSubject());
+        user.setStatus(UserStatusEnum.valueOf(info.get(JwtUtil.CLAIM_STATUS, String.class)));
+        user.setTokenGeneration(info.get(JwtUtil.CLAIM_TOKEN_GENERATION, Long.class));
+
+        // 로그아웃 또는 탈퇴 이후에 발급 전 토큰으로 요청한 경우
+        if (user.isWithdrawn() || revocationStore.isRevoked(user.getUserId(), user.getTokenGeneration())) {
+            res.setCharacterEncoding("UTF-8");
+            res.getWriter().write("다시 로그인해주세요.");
+            return true;
+        }
+
+        setAuthentication(new UserDetailsImpl(user));
+
+        filterChain.doFilter(req, res);
+        return true;
+    }
+
     // 사용자 인증 처리
     public void setAuthentication(String username) {
+        setAuthentication(loadUserDetails(username));
+    }
+
+    private void setAuthentication(UserDetails userDetails) {
         // 빈 SecurityContext 생성
         SecurityContext context = SecurityContextHolder.createEmptyContext();
 
         // 사용자의 인증 객체 생성
-        Authentication authentication = createAuthentication(username);
+        Authentication authentication = createAuthentication(userDetails);
 
         // SecurityContext에 인증 객체 설정
         context.setAuthentication(authentication);
@@ -109,10 +162,15 @@ public class JwtAuthorizationFilter extends OncePerRequestFilter {
         SecurityContextHolder.setContext(context);
     }
 
+    // 사용자 정보 조회 (헤더의 userId와 같다면 위에서 이미 캐시에 올라가 있음)
+    private UserDetails loadUserDetails(String username) {
+        User user = principalCache.get(username)
+                .orElseThrow(() -> new UsernameNotFoundException("User not found with userId: " + username));
+        return new UserDetailsImpl(user);
+    }
+
     // 사용자의 인증 객체 생성
-    private Authentication createAuthentication(String username) {
-        // 사용자 정보 조회
-        UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+    private Authentication createAuthentication(UserDetails userDetails) {
         // UserDetails를 사용하여 인증 토큰 생성
         return new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
     }
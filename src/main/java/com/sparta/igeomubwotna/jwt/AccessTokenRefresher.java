@@ -0,0 +1,80 @@
+package com.sparta.igeomubwotna.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sparta.igeomubwotna.entity.User;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.time.Duration;
+
+// 만료된 AccessToken 재발급
+// 같은 클라이언트가 동시에 보낸 요청들은 RefreshToken 별로 한 번만 재발급하고 결과를 공유
+@Slf4j(topic = "AccessToken 재발급")
+@Component
+public class AccessTokenRefresher {
+
+    private final JwtUtil jwtUtil;
+    // RefreshToken -> 새로 발급한 AccessToken
+    // 발급 중인 키를 요청하면 발급이 끝날 때까지 기다렸다가 같은 값을 받음
+    private final Cache<String, String> refreshedTokens;
+
+    private final Counter performed; // 실제로 재발급한 횟수
+    private final Counter coalesced; // 다른 요청의 재발급 결과를 공유한 횟수
+
+    public AccessTokenRefresher(JwtUtil jwtUtil,
+                                MeterRegistry meterRegistry,
+                                @Value("${jwt.refresh.coalesce-seconds:10}") long coalesceSeconds) {
+        this.jwtUtil = jwtUtil;
+        this.refreshedTokens = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(coalesceSeconds)) // 이 시간 안에 들어온 요청까지 같은 토큰을 공유
+                .build();
+        this.performed = Counter.builder("jwt.refresh")
+                .tag("result", "performed")
+                .description("RefreshToken 검증 후 AccessToken을 새로 발급한 횟수")
+                .register(meterRegistry);
+        this.coalesced = Counter.builder("jwt.refresh")
+                .tag("result", "coalesced")
+                .description("진행 중이거나 직전에 끝난 재발급 결과를 공유한 횟수")
+                .register(meterRegistry);
+    }
+
+    // 새 AccessToken을 Authorization 헤더에 담고 반환 (실패 시 null)
+    public String refresh(User user, HttpServletResponse response) {
+        String refreshToken = user.getRefreshToken();
+        if (!StringUtils.hasText(refreshToken)) {
+            return null;
+        }
+
+        boolean[] computed = {false};
+        // 재발급에 실패하면(null) 캐시하지 않으므로 다음 요청이 다시 시도함
+        String newToken = refreshedTokens.get(refreshToken, key -> {
+            computed[0] = true;
+            return jwtUtil.createRefreshedAccessToken(user);
+        });
+
+        if (computed[0]) {
+            performed.increment();
+        } else {
+            coalesced.increment();
+        }
+
+        if (newToken != null) {
+            response.setHeader(JwtUtil.ACCESS_HEADER, newToken);
+        }
+        return newToken;
+    }
+
+    public double getPerformedCount() {
+        return performed.count();
+    }
+
+    public double getCoalescedCount() {
+        return coalesced.count();
+    }
+}
@@ -1,10 +1,14 @@
 package com.sparta.igeomubwotna.jwt;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.sparta.igeomubwotna.entity.User;
+import com.sparta.igeomubwotna.jwt.TokenValidationResult.FailureReason;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
 import jakarta.annotation.PostConstruct;
 import jakarta.servlet.http.HttpServletRequest;
-import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
@@ -13,6 +17,7 @@ import org.springframework.util.StringUtils;
 import java.security.Key;
 import java.util.Base64;
 import java.util.Date;
+import java.util.concurrent.TimeUnit;
 
 @Slf4j(topic = "JWT 관련 로그")
 @Component
@@ -24,14 +29,29 @@ public class JwtUtil {
     public static final String ACCESS_USERID = "X-User-Id";
     // Token 식별자
     public static final String BEARER_PREFIX = "Bearer ";
+    // AccessToken에 담기는 사용자 정보 (stateless 모드에서 DB 조회 없이 인가하기 위해 사용)
+    public static final String CLAIM_USER_PK = "uid";
+    public static final String CLAIM_STATUS = "status";
+    public static final String CLAIM_TOKEN_GENERATION = "gen";
     // 토큰 만료시간
-    private final long ACCESS_TOKEN_TIME = 30 * 60 * 1000L; // 30분
+    public static final long ACCESS_TOKEN_TIME = 30 * 60 * 1000L; // 30분
     private final long REFRESH_TOKEN_TIME = 14 * 24 * 60 * 60 * 1000L; // 2주
 
     @Value("${jwt.secret.key}") // Base64 Encode 한 SecretKey
     private String secretKey;
     private Key key;
     private final SignatureAlgorithm signatureAlgorithm = SignatureAlgorithm.HS256;
+    // 한 번 만들어 두고 재사용 (thread-safe)
+    private JwtParser jwtParser;
+
+    // 최근 검증에 성공한 토큰 -> Claims (exp 까지만 보관하여 같은 토큰의 서명 재검증을 생략)
+    @Value("${jwt.verified-cache.max-size:10000}")
+    private long verifiedCacheSize;
+    private Cache<String, Claims> verifiedTokens;
+
+    // true 이면 AccessToken의 claim 만으로 인가 (DB 조회 없음)
+    @Value("${jwt.stateless.enabled:false}")
+    private boolean statelessEnabled;
 
     // 딱 한 번만 받아오면 되는 값을 사용할 때마다 요청을 새로고침하는 오류를 방지하기 위해
     @PostConstruct
@@ -39,21 +59,48 @@ public class JwtUtil {
         // Base64로 디코딩
         byte[] bytes = Base64.getDecoder().decode(secretKey);
         key = Keys.hmacShaKeyFor(bytes);
+        jwtParser = Jwts.parserBuilder().setSigningKey(key).build();
+
+        verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(verifiedCacheSize)
+                .expireAfter(new Expiry<String, Claims>() {
+                    @Override
+                    public long expireAfterCreate(String token, Claims claims, long currentTime) {
+                        long remainMillis = claims.getExpiration().getTime() - System.currentTimeMillis();
+                        return TimeUnit.MILLISECONDS.toNanos(Math.max(remainMillis, 0L));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String token, Claims claims, long currentTime, long currentDuration) {
+                        return expireAfterCreate(token, claims, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String token, Claims claims, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+    }
+
+    public boolean isStatelessEnabled() {
+        return statelessEnabled;
     }
 
     // AccessToken 생성
-    // TODO: 나중에 user에 상태가 필요하면 말씀해 주세요!
-    public String createAccessToken(String userId) {
+    public String createAccessToken(User user) {
         Date date = new Date();
 
         return BEARER_PREFIX +
                 Jwts.builder()
-                        .setSubject(userId) // 유저 식별 값
+                        .setSubject(user.getUserId()) // 유저 식별 값
+                        .claim(CLAIM_USER_PK, user.getId()) // 유저 PK
+                        .claim(CLAIM_STATUS, user.getStatus().name()) // 상태
+                        .claim(CLAIM_TOKEN_GENERATION, user.getTokenGeneration()) // 토큰 세대
                         .setExpiration(new Date(date.getTime() + ACCESS_TOKEN_TIME)) // 만료 시간
                         .setIssuedAt(date) // 발급일
                         .signWith(key, signatureAlgorithm) // 암호화 알고리즘
                         .compact();
-//                        .claim() // 상태
     }
 
     // RefreshToken 생성
@@ -88,57 +135,92 @@ public class JwtUtil {
         return null;
     }
 
-    // Access 토큰 검증
-    public boolean validateAccessToken(String accessToken, String refreshToken, HttpServletResponse response) {
-        try {
-            Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(accessToken);
-            return true;
-        } catch (SecurityException | MalformedJwtException | SignatureException e) {
-            log.error("Invalid AccessToken signature, 유효하지 않는 AccessToken 서명 입니다.");
-        } catch (ExpiredJwtException e) {
-            refreshAccessToken(refreshToken, response);
-            log.error("Expired AccessToken token, 만료된 AccessToken 입니다.");
-        } catch (UnsupportedJwtException e) {
-            log.error("Unsupported AccessToken token, 지원되지 않는 AccessToken 입니다.");
-        } catch (IllegalArgumentException e) {
-            log.error("AccessToken claims is empty, 잘못된 AccessToken 토큰 입니다.");
+    // 토큰 검증과 Claims 추출을 한 번의 파싱으로 처리
+    public TokenValidationResult validateAndExtract(String token) {
+        if (!StringUtils.hasText(token)) {
+            return TokenValidationResult.failure(FailureReason.EMPTY);
+        }
+
+        // exp 전까지는 이미 검증한 결과를 재사용
+        Claims verified = verifiedTokens.getIfPresent(token);
+        if (verified != null) {
+            return TokenValidationResult.valid(verified);
         }
-        return false;
-    }
 
-    // refresh 토큰 검증
-    public boolean validateRefreshToken(String refreshToken) {
         try {
-            Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(refreshToken);
-            return true;
+            Claims claims = jwtParser.parseClaimsJws(token).getBody();
+            if (claims.getExpiration() != null) {
+                verifiedTokens.put(token, claims);
+            }
+            return TokenValidationResult.valid(claims);
         } catch (SecurityException | MalformedJwtException | SignatureException e) {
-            log.error("Invalid RefreshToken, 유효하지 않는 RefreshToken 서명 입니다.");
+            return TokenValidationResult.failure(FailureReason.INVALID_SIGNATURE);
         } catch (ExpiredJwtException e) {
-            log.error("Expired RefreshToken, 만료된 RefreshToken 입니다. 다시 로그인 해주세요.");
+            return TokenValidationResult.failure(FailureReason.EXPIRED);
         } catch (UnsupportedJwtException e) {
-            log.error("Unsupported RefreshToken, 지원되지 않는 RefreshToken 입니다.");
+            return TokenValidationResult.failure(FailureReason.UNSUPPORTED);
         } catch (IllegalArgumentException e) {
-            log.error("RefreshToken claims is empty, 잘못된 RefreshToken 입니다.");
+            return TokenValidationResult.failure(FailureReason.EMPTY);
         }
-        return false;
     }
 
-    // RefreshToken 검증 및 AccessToken 재발급
-    public String refreshAccessToken(String refreshToken, HttpServletResponse response) {
-        if (validateRefreshToken(refreshToken)) {
-            Claims claims = getUserInfoFromToken(refreshToken);
-            String userId = claims.getSubject();
-            String newToken = createAccessToken(userId);
+    // Access 토큰 검증 (만료된 경우 재발급은 AccessTokenRefresher 에서 처리)
+    public TokenValidationResult validateAccessToken(String accessToken) {
+        TokenValidationResult result = validateAndExtract(accessToken);
+
+        if (!result.isValid()) {
+            switch (result.getFailureReason()) {
+                case INVALID_SIGNATURE -> log.error("Invalid AccessToken signature, 유효하지 않는 AccessToken 서명 입니다.");
+                case EXPIRED -> log.error("Expired AccessToken token, 만료된 AccessToken 입니다.");
+                case UNSUPPORTED -> log.error("Unsupported AccessToken token, 지원되지 않는 AccessToken 입니다.");
+                case EMPTY -> log.error("AccessToken claims is empty, 잘못된 AccessToken 토큰 입니다.");
+            }
+        }
+        return result;
+    }
 
-            response.setHeader(ACCESS_HEADER, newToken);
+    // refresh 토큰 검증
+    public TokenValidationResult validateRefreshToken(String refreshToken) {
+        TokenValidationResult result = validateAndExtract(refreshToken);
+
+        if (!result.isValid()) {
+            switch (result.getFailureReason()) {
+                case INVALID_SIGNATURE -> log.error("Invalid RefreshToken, 유효하지 않는 RefreshToken 서명 입니다.");
+                case EXPIRED -> log.error("Expired RefreshToken, 만료된 RefreshToken 입니다. 다시 로그인 해주세요.");
+                case UNSUPPORTED -> log.error("Unsupported RefreshToken, 지원되지 않는 RefreshToken 입니다.");
+                case EMPTY -> log.error("RefreshToken claims is empty, 잘못된 RefreshToken 입니다.");
+            }
+        }
+        return result;
+    }
 
-            return newToken;
+    // RefreshToken 검증 후 새 AccessToken 발급 (실패 시 null)
+    public String createRefreshedAccessToken(User user) {
+        TokenValidationResult result = validateRefreshToken(user.getRefreshToken());
+
+        if (result.isValid()) {
+            Claims claims = result.getClaims();
+            if (!user.getUserId().equals(claims.getSubject())) {
+                log.error("RefreshToken subject mismatch, 다른 사용자의 RefreshToken 입니다.");
+                return null;
+            }
+            return createAccessToken(user);
         }
         return null;
     }
 
     // 토큰에서 사용자 정보 가져오기
     public Claims getUserInfoFromToken(String token) {
-        return Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody();
+        return jwtParser.parseClaimsJws(token).getBody();
+    }
+
+    // stateless 인가용 claim 추출
+    // 만료되었거나 상태 claim이 없는 (이전 버전) 토큰이면 null -> DB 조회 방식으로 처리
+    public Claims getStatelessClaims(String accessToken) {
+        Claims claims = validateAndExtract(accessToken).getClaims();
+        if (claims == null || claims.get(CLAIM_STATUS) == null || claims.get(CLAIM_USER_PK) == null) {
+            return null;
+        }
+        return claims;
     }
 }
\ No newline at end of file
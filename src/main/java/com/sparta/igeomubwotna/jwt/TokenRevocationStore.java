@@ -0,0 +1,34 @@
+package com.sparta.igeomubwotna.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+// stateless 모드에서 로그아웃, 탈퇴한 사용자의 AccessToken을 만료 전까지 막기 위한 메모리 저장소
+// 기록 후 AccessToken 유효시간이 지나면 이전 토큰은 어차피 만료되므로 함께 사라짐
+@Component
+public class TokenRevocationStore {
+
+    // userId -> 유효한 최소 토큰 세대
+    private final Cache<String, Long> revoked;
+
+    public TokenRevocationStore(@Value("${jwt.revocation.max-size:100000}") long maxSize) {
+        this.revoked = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMillis(JwtUtil.ACCESS_TOKEN_TIME))
+                .build();
+    }
+
+    // minGeneration 보다 낮은 세대의 토큰은 모두 거부
+    public void revoke(String userId, long minGeneration) {
+        revoked.asMap().merge(userId, minGeneration, Math::max);
+    }
+
+    public boolean isRevoked(String userId, long generation) {
+        Long minGeneration = revoked.getIfPresent(userId);
+        return minGeneration != null && generation < minGeneration;
+    }
+}
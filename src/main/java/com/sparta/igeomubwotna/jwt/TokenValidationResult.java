@@ -0,0 +1,40 @@
+package com.sparta.igeomubwotna.jwt;
+
+import io.jsonwebtoken.Claims;
+import lombok.Getter;
+
+// 토큰 검증 결과 (성공 시 Claims, 실패 시 실패 사유)
+@Getter
+public class TokenValidationResult {
+
+    public enum FailureReason {
+        INVALID_SIGNATURE, // 서명 불일치, 형식 오류
+        EXPIRED, // 만료
+        UNSUPPORTED, // 지원되지 않는 토큰
+        EMPTY // 비어있거나 잘못된 토큰
+    }
+
+    private final Claims claims;
+    private final FailureReason failureReason;
+
+    private TokenValidationResult(Claims claims, FailureReason failureReason) {
+        this.claims = claims;
+        this.failureReason = failureReason;
+    }
+
+    public static TokenValidationResult valid(Claims claims) {
+        return new TokenValidationResult(claims, null);
+    }
+
+    public static TokenValidationResult failure(FailureReason failureReason) {
+        return new TokenValidationResult(null, failureReason);
+    }
+
+    public boolean isValid() {
+        return claims != null;
+    }
+
+    public boolean isExpired() {
+        return failureReason == FailureReason.EXPIRED;
+    }
+}
@@ -4,11 +4,34 @@ import com.sparta.igeomubwotna.entity.Comment;
 import com.sparta.igeomubwotna.entity.CommentLikes;
 import com.sparta.igeomubwotna.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface CommentLikesRepository extends JpaRepository<CommentLikes, Long> {
     Optional<CommentLikes> findByUserAndComment(User foundUser, Comment foundComment);
+
+    // 이미 있으면 무시 (uk_comment_likes_user_comment), 실제로 추가된 행 수(0 또는 1) 반환
+    @Transactional
+    @Modifying
+    @Query(value = "insert ignore into comment_likes (user_id, comment_id, created_at, modified_at) " +
+            "values (:userId, :commentId, now(6), now(6))", nativeQuery = true)
+    int insertIfAbsent(@Param("userId") Long userId, @Param("commentId") Long commentId);
+
+    // 실제로 삭제된 행 수(0 또는 1) 반환
+    @Transactional
+    @Modifying
+    @Query("delete from CommentLikes l where l.user.id = :userId and l.comment.id = :commentId")
+    int deleteByUserIdAndCommentId(@Param("userId") Long userId, @Param("commentId") Long commentId);
+
+    // 주어진 id 중 사용자가 좋아요한 id (IN 쿼리 한 번)
+    @Query("select l.comment.id from CommentLikes l where l.user.id = :userId and l.comment.id in :commentIds")
+    List<Long> findLikedCommentIds(@Param("userId") Long userId, @Param("commentIds") Collection<Long> commentIds);
 }
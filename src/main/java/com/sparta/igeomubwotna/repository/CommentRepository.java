@@ -1,12 +1,53 @@
 package com.sparta.igeomubwotna.repository;
 
 import com.sparta.igeomubwotna.entity.Comment;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface CommentRepository extends JpaRepository<Comment, Long> {
-    List<Comment> findByRecipeId(Long recipeId);
+    // 커서 기반 댓글 목록 (List 반환이라 count 쿼리 없음, Pageable 은 LIMIT 용도로만 사용)
+    // newest
+    @Query("select c from Comment c join fetch c.user where c.recipe.id = :recipeId " +
+            "order by c.createdAt desc, c.id desc")
+    List<Comment> findNewest(@Param("recipeId") Long recipeId, Pageable pageable);
+
+    @Query("select c from Comment c join fetch c.user where c.recipe.id = :recipeId " +
+            "and (c.createdAt < :createdAt or (c.createdAt = :createdAt and c.id < :id)) " +
+            "order by c.createdAt desc, c.id desc")
+    List<Comment> findNewestAfterCursor(@Param("recipeId") Long recipeId, @Param("createdAt") LocalDateTime createdAt,
+                                        @Param("id") Long id, Pageable pageable);
+
+    // oldest
+    @Query("select c from Comment c join fetch c.user where c.recipe.id = :recipeId " +
+            "order by c.createdAt asc, c.id asc")
+    List<Comment> findOldest(@Param("recipeId") Long recipeId, Pageable pageable);
+
+    @Query("select c from Comment c join fetch c.user where c.recipe.id = :recipeId " +
+            "and (c.createdAt > :createdAt or (c.createdAt = :createdAt and c.id > :id)) " +
+            "order by c.createdAt asc, c.id asc")
+    List<Comment> findOldestAfterCursor(@Param("recipeId") Long recipeId, @Param("createdAt") LocalDateTime createdAt,
+                                        @Param("id") Long id, Pageable pageable);
+
+    // most-liked
+    @Query("select c from Comment c join fetch c.user where c.recipe.id = :recipeId " +
+            "order by c.likeCount desc, c.id desc")
+    List<Comment> findMostLiked(@Param("recipeId") Long recipeId, Pageable pageable);
+
+    @Query("select c from Comment c join fetch c.user where c.recipe.id = :recipeId " +
+            "and (c.likeCount < :likeCount or (c.likeCount = :likeCount and c.id < :id)) " +
+            "order by c.likeCount desc, c.id desc")
+    List<Comment> findMostLikedAfterCursor(@Param("recipeId") Long recipeId, @Param("likeCount") Long likeCount,
+                                           @Param("id") Long id, Pageable pageable);
+
+    // 작성자 id 만 조회 (엔티티와 작성자를 불러오지 않음)
+    @Query("select c.user.id from Comment c where c.id = :id")
+    Optional<Long> findAuthorIdById(@Param("id") Long id);
 }
@@ -4,11 +4,39 @@ import com.sparta.igeomubwotna.entity.Recipe;
 import com.sparta.igeomubwotna.entity.RecipeLikes;
 import com.sparta.igeomubwotna.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface RecipeLikesRepository extends JpaRepository<RecipeLikes, Long> {
     Optional<RecipeLikes> findByUserAndRecipe(User foundUser, Recipe foundRecipe);
+
+    // 이미 있으면 무시 (uk_recipe_likes_user_recipe), 실제로 추가된 행 수(0 또는 1) 반환
+    @Transactional
+    @Modifying
+    @Query(value = "insert ignore into recipe_likes (user_id, recipe_id, created_at, modified_at) " +
+            "values (:userId, :recipeId, now(6), now(6))", nativeQuery = true)
+    int insertIfAbsent(@Param("userId") Long userId, @Param("recipeId") Long recipeId);
+
+    // 좋아요를 누른 시각 (해제할 때 인기 급상승 점수에서 이 시각 기준으로 감쇠된 만큼만 빼기 위해)
+    @Query("select l.createdAt from RecipeLikes l where l.user.id = :userId and l.recipe.id = :recipeId")
+    Optional<LocalDateTime> findCreatedAt(@Param("userId") Long userId, @Param("recipeId") Long recipeId);
+
+    // 실제로 삭제된 행 수(0 또는 1) 반환
+    @Transactional
+    @Modifying
+    @Query("delete from RecipeLikes l where l.user.id = :userId and l.recipe.id = :recipeId")
+    int deleteByUserIdAndRecipeId(@Param("userId") Long userId, @Param("recipeId") Long recipeId);
+
+    // 주어진 id 중 사용자가 좋아요한 id (IN 쿼리 한 번)
+    @Query("select l.recipe.id from RecipeLikes l where l.user.id = :userId and l.recipe.id in :recipeIds")
+    List<Long> findLikedRecipeIds(@Param("userId") Long userId, @Param("recipeIds") Collection<Long> recipeIds);
 }
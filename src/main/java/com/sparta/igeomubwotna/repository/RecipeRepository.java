@@ -1,14 +1,87 @@
 package com.sparta.igeomubwotna.repository;
 
+import com.sparta.igeomubwotna.dto.EntityVersion;
 import com.sparta.igeomubwotna.entity.Recipe;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface RecipeRepository extends JpaRepository<Recipe, Long> {
+    // 목록 조회 시 작성자(user)를 같은 쿼리에서 함께 조회 (행마다 작성자를 따로 조회하는 N+1 방지)
+    @Override
+    @EntityGraph(attributePaths = "user")
+    Page<Recipe> findAll(Pageable pageable);
+
+    @EntityGraph(attributePaths = "user")
     Page<Recipe> findAllByCreatedAtBetween(Pageable pageable, LocalDateTime startDateTime, LocalDateTime endDateTime);
-}
\ No newline at end of file
+
+    // 커서 기반 피드 (List 반환이라 count 쿼리 없음, Pageable 은 LIMIT 용도로만 사용)
+    @Query("select r from Recipe r join fetch r.user order by r.createdAt desc, r.id desc")
+    List<Recipe> findFeedOrderByCreatedAt(Pageable pageable);
+
+    @Query("select r from Recipe r join fetch r.user " +
+            "where r.createdAt < :createdAt or (r.createdAt = :createdAt and r.id < :id) " +
+            "order by r.createdAt desc, r.id desc")
+    List<Recipe> findFeedOrderByCreatedAtAfterCursor(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable pageable);
+
+    @Query("select r from Recipe r join fetch r.user order by r.recipeLikes desc, r.id desc")
+    List<Recipe> findFeedOrderByLikes(Pageable pageable);
+
+    @Query("select r from Recipe r join fetch r.user " +
+            "where r.recipeLikes < :recipeLikes or (r.recipeLikes = :recipeLikes and r.id < :id) " +
+            "order by r.recipeLikes desc, r.id desc")
+    List<Recipe> findFeedOrderByLikesAfterCursor(@Param("recipeLikes") Long recipeLikes, @Param("id") Long id, Pageable pageable);
+
+    @Query("select r from Recipe r join fetch r.user order by r.modifiedAt desc, r.id desc")
+    List<Recipe> findFeedOrderByModifiedAt(Pageable pageable);
+
+    @Query("select r from Recipe r join fetch r.user " +
+            "where r.modifiedAt < :modifiedAt or (r.modifiedAt = :modifiedAt and r.id < :id) " +
+            "order by r.modifiedAt desc, r.id desc")
+    List<Recipe> findFeedOrderByModifiedAtAfterCursor(@Param("modifiedAt") LocalDateTime modifiedAt, @Param("id") Long id, Pageable pageable);
+
+    @Query("select r from Recipe r join fetch r.user order by r.commentCount desc, r.id desc")
+    List<Recipe> findFeedOrderByCommentCount(Pageable pageable);
+
+    @Query("select r from Recipe r join fetch r.user " +
+            "where r.commentCount < :commentCount or (r.commentCount = :commentCount and r.id < :id) " +
+            "order by r.commentCount desc, r.id desc")
+    List<Recipe> findFeedOrderByCommentCountAfterCursor(@Param("commentCount") long commentCount, @Param("id") Long id, Pageable pageable);
+
+    // 검색 결과 id 목록으로 조회 (작성자 포함)
+    @Query("select r from Recipe r join fetch r.user where r.id in :ids")
+    List<Recipe> findAllWithUserByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 작성자 id 만 조회 (엔티티와 작성자를 불러오지 않음)
+    @Query("select r.user.id from Recipe r where r.id = :id")
+    Optional<Long> findAuthorIdById(@Param("id") Long id);
+
+    // ETag 용 버전 정보 (없는 레시피면 count = 0)
+    @Query("select new com.sparta.igeomubwotna.dto.EntityVersion(count(r), max(r.modifiedAt), sum(r.recipeLikes)) " +
+            "from Recipe r where r.id = :id")
+    EntityVersion findVersionById(@Param("id") Long id);
+
+    // 삭제 요청 : 바로 숨기고 (이후 JPA 조회에서 제외) 댓글, 좋아요와 행은 RecipePurgeService 가 삭제
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update Recipe r set r.deleted = true where r.id = :id")
+    int hideById(@Param("id") Long id);
+
+    // 댓글 작성/삭제 시 댓글 수 증감 (엔티티를 읽지 않고 한 문장으로)
+    @Transactional
+    @Modifying
+    @Query("update Recipe r set r.commentCount = r.commentCount + :delta where r.id = :id")
+    int addCommentCount(@Param("id") Long id, @Param("delta") long delta);
+}
@@ -0,0 +1,53 @@
+package com.sparta.igeomubwotna.repository;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.HashMap;
+import java.util.Map;
+
+// 레시피 목록에서 지원하는 정렬 (모두 내림차순, 같은 값이면 최신 id 먼저)
+// 정렬마다 (정렬 컬럼, id) 복합 인덱스가 있어서 전체 행을 filesort 하지 않고 인덱스 순서대로 읽음 (Recipe 의 @Index 참고)
+// 요청 값은 아래 이름만 허용 (기존 클라이언트가 보내던 필드 이름도 허용)
+public enum RecipeSort {
+    NEWEST("newest", "createdAt"),
+    MOST_LIKED("most-liked", "recipeLikes"),
+    RECENTLY_MODIFIED("recently-modified", "modifiedAt"),
+    MOST_COMMENTED("most-commented", "commentCount");
+
+    private static final Map<String, RecipeSort> BY_PARAMETER = new HashMap<>();
+
+    static {
+        for (RecipeSort sort : values()) {
+            BY_PARAMETER.put(sort.parameter, sort);
+            BY_PARAMETER.put(sort.property, sort);
+        }
+    }
+
+    private final String parameter;
+    private final String property;
+
+    RecipeSort(String parameter, String property) {
+        this.parameter = parameter;
+        this.property = property;
+    }
+
+    // DB를 조회하기 전에 400 으로 거절
+    public static RecipeSort from(String value) {
+        RecipeSort sort = value == null ? null : BY_PARAMETER.get(value);
+        if (sort == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "지원하지 않는 정렬입니다. (newest, most-liked, recently-modified, most-commented)");
+        }
+        return sort;
+    }
+
+    // 엔티티 필드 이름 (커서의 정렬 기준으로도 사용)
+    public String getProperty() {
+        return property;
+    }
+
+    public Sort toSort() {
+        return Sort.by(Sort.Direction.DESC, property, "id");
+    }
+}
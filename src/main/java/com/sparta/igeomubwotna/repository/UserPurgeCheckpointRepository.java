@@ -0,0 +1,9 @@
+package com.sparta.igeomubwotna.repository;
+
+import com.sparta.igeomubwotna.entity.UserPurgeCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface UserPurgeCheckpointRepository extends JpaRepository<UserPurgeCheckpoint, Long> {
+}
@@ -2,13 +2,28 @@ package com.sparta.igeomubwotna.repository;
 
 import com.sparta.igeomubwotna.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByUserId(String userId);
 
+    // ETag, Last-Modified 용 (엔티티를 불러오지 않음)
+    @Query("select u.modifiedAt from User u where u.id = :id")
+    Optional<LocalDateTime> findModifiedAtById(@Param("id") Long id);
+
     Optional<User> findByEmail(String email);
+
+    // 로그인 시 엔티티 전체를 저장하지 않고 refreshToken 컬럼만 갱신
+    @Transactional
+    @Modifying
+    @Query("update User u set u.refreshToken = :refreshToken where u.userId = :userId")
+    int updateRefreshToken(@Param("userId") String userId, @Param("refreshToken") String refreshToken);
 }
@@ -0,0 +1,66 @@
+package com.sparta.igeomubwotna.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+// 레시피 제목/내용과 검색어를 검색 토큰으로 나눔
+// 한글은 띄어쓰기와 조사가 일정하지 않으므로 글자 2개씩 겹쳐서 자르고 ("김치찌개" -> 김치, 치찌, 찌개), 영문/숫자는 단어 단위
+// 한 글자로만 된 단어는 그대로 토큰 하나
+public final class BigramTokenizer {
+
+    private BigramTokenizer() {
+    }
+
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return tokens;
+        }
+        // 전각 문자, 호환 자모 등을 같은 글자로 맞춤
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+
+        StringBuilder word = new StringBuilder(); // 영문, 숫자
+        StringBuilder run = new StringBuilder();  // 한글 등 그 외 글자
+        for (int i = 0; i < normalized.length(); ) {
+            int codePoint = normalized.codePointAt(i);
+            i += Character.charCount(codePoint);
+
+            if (codePoint < 128 && Character.isLetterOrDigit(codePoint)) {
+                addBigrams(run, tokens);
+                word.appendCodePoint(codePoint);
+            } else if (Character.isLetterOrDigit(codePoint)) {
+                addWord(word, tokens);
+                run.appendCodePoint(codePoint);
+            } else {
+                addWord(word, tokens);
+                addBigrams(run, tokens);
+            }
+        }
+        addWord(word, tokens);
+        addBigrams(run, tokens);
+        return tokens;
+    }
+
+    private static void addWord(StringBuilder word, List<String> tokens) {
+        if (!word.isEmpty()) {
+            tokens.add(word.toString());
+            word.setLength(0);
+        }
+    }
+
+    private static void addBigrams(StringBuilder run, List<String> tokens) {
+        if (run.isEmpty()) {
+            return;
+        }
+        int[] codePoints = run.codePoints().toArray();
+        if (codePoints.length == 1) {
+            tokens.add(new String(codePoints, 0, 1));
+        }
+        for (int i = 0; i + 1 < codePoints.length; i++) {
+            tokens.add(new String(codePoints, i, 2));
+        }
+        run.setLength(0);
+    }
+}
@@ -0,0 +1,242 @@
+package com.sparta.igeomubwotna.search;
+
+import com.sparta.igeomubwotna.util.TransactionHooks;
+import org.springframework.stereotype.Component;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// 레시피 제목/내용 메모리 역색인 (토큰 -> 레시피 id -> 등장 횟수), BM25 로 순위 계산
+// 레시피 저장/수정/삭제 시 해당 레시피만 갱신하고, 시작할 때 DB 또는 스냅샷 파일에서 만듦 (RecipeSearchIndexLoader)
+@Component
+public class RecipeSearchIndex {
+
+    // BM25 파라미터 (일반적인 기본값)
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    // 제목에 나온 토큰은 본문보다 2배로 셈
+    private static final int TITLE_WEIGHT = 2;
+
+    private static final int SNAPSHOT_MAGIC = 0x52534958; // "RSIX"
+    private static final int SNAPSHOT_VERSION = 1;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    // 토큰 -> (레시피 id -> 가중치를 적용한 등장 횟수)
+    private final Map<String, Map<Long, Integer>> postings = new HashMap<>();
+    // 레시피 id -> 토큰별 등장 횟수와 길이 (갱신, 삭제 시 postings 에서 뺄 토큰을 찾는 용도)
+    private final Map<Long, Document> documents = new HashMap<>();
+    // 문서 길이 합 (평균 길이 계산용)
+    private long totalLength;
+
+    public record SearchResult(List<Long> recipeIds, int total) {
+    }
+
+    private record Document(Map<String, Integer> frequencies, int length) {
+    }
+
+    // 트랜잭션 안이라면 커밋된 경우에만 반영
+    public void index(Long recipeId, String title, String content) {
+        TransactionHooks.afterCommit(() -> put(recipeId, termFrequencies(title, content)));
+    }
+
+    public void remove(Long recipeId) {
+        TransactionHooks.afterCommit(() -> {
+            lock.writeLock().lock();
+            try {
+                removeDocument(recipeId);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    public void removeAll(Collection<Long> recipeIds) {
+        recipeIds.forEach(this::remove);
+    }
+
+    // 검색어 토큰이 하나라도 있는 레시피를 BM25 점수 순으로 (같으면 최신 id 먼저)
+    public SearchResult search(String query, int offset, int limit) {
+        Set<String> terms = new HashSet<>(BigramTokenizer.tokenize(query));
+        Map<Long, Double> scores = new HashMap<>();
+
+        lock.readLock().lock();
+        try {
+            int documentCount = documents.size();
+            if (documentCount == 0 || terms.isEmpty()) {
+                return new SearchResult(List.of(), 0);
+            }
+            double averageLength = (double) totalLength / documentCount;
+            for (String term : terms) {
+                Map<Long, Integer> posting = postings.get(term);
+                if (posting == null) {
+                    continue;
+                }
+                double idf = Math.log(1 + (documentCount - posting.size() + 0.5) / (posting.size() + 0.5));
+                posting.forEach((recipeId, frequency) -> {
+                    double length = documents.get(recipeId).length();
+                    double score = idf * frequency * (K1 + 1)
+                            / (frequency + K1 * (1 - B + B * length / averageLength));
+                    scores.merge(recipeId, score, Double::sum);
+                });
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        // 전체를 정렬하지 않고 offset + limit 개만 힙으로 추림
+        Comparator<Map.Entry<Long, Double>> ranking = Map.Entry.<Long, Double>comparingByValue()
+                .thenComparing(Map.Entry.comparingByKey());
+        int wanted = offset + limit;
+        PriorityQueue<Map.Entry<Long, Double>> top = new PriorityQueue<>(ranking);
+        for (Map.Entry<Long, Double> entry : scores.entrySet()) {
+            top.offer(entry);
+            if (top.size() > wanted) {
+                top.poll();
+            }
+        }
+        List<Long> ranked = new ArrayList<>(top.size());
+        while (!top.isEmpty()) {
+            ranked.add(top.poll().getKey());
+        }
+        Collections.reverse(ranked);
+        List<Long> page = offset >= ranked.size() ? List.of() : ranked.subList(offset, ranked.size());
+        return new SearchResult(page, scores.size());
+    }
+
+    public boolean contains(Long recipeId) {
+        lock.readLock().lock();
+        try {
+            return documents.containsKey(recipeId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public Set<Long> getRecipeIds() {
+        lock.readLock().lock();
+        try {
+            return new HashSet<>(documents.keySet());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 스냅샷 : 레시피별 토큰 등장 횟수만 저장하고 (postings 는 읽을 때 다시 만듦)
+    public void writeSnapshot(DataOutputStream out) throws IOException {
+        lock.readLock().lock();
+        try {
+            out.writeInt(SNAPSHOT_MAGIC);
+            out.writeInt(SNAPSHOT_VERSION);
+            out.writeInt(documents.size());
+            for (Map.Entry<Long, Document> document : documents.entrySet()) {
+                Map<String, Integer> frequencies = document.getValue().frequencies();
+                out.writeLong(document.getKey());
+                out.writeInt(frequencies.size());
+                for (Map.Entry<String, Integer> term : frequencies.entrySet()) {
+                    out.writeUTF(term.getKey());
+                    out.writeInt(term.getValue());
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 형식이 다르면 IOException (호출한 쪽에서 DB로 다시 만듦), 기존 내용은 모두 교체
+    public void readSnapshot(DataInputStream in) throws IOException {
+        if (in.readInt() != SNAPSHOT_MAGIC || in.readInt() != SNAPSHOT_VERSION) {
+            throw new IOException("unsupported search index snapshot");
+        }
+        int documentCount = in.readInt();
+        Map<Long, Map<String, Integer>> loaded = new HashMap<>(documentCount * 2);
+        for (int i = 0; i < documentCount; i++) {
+            long recipeId = in.readLong();
+            int termCount = in.readInt();
+            Map<String, Integer> frequencies = new HashMap<>(termCount * 2);
+            for (int j = 0; j < termCount; j++) {
+                frequencies.put(in.readUTF(), in.readInt());
+            }
+            loaded.put(recipeId, frequencies);
+        }
+
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            documents.clear();
+            totalLength = 0;
+            loaded.forEach(this::addDocument);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void put(Long recipeId, Map<String, Integer> frequencies) {
+        lock.writeLock().lock();
+        try {
+            removeDocument(recipeId);
+            addDocument(recipeId, frequencies);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static Map<String, Integer> termFrequencies(String title, String content) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        BigramTokenizer.tokenize(title).forEach(term -> frequencies.merge(term, TITLE_WEIGHT, Integer::sum));
+        BigramTokenizer.tokenize(content).forEach(term -> frequencies.merge(term, 1, Integer::sum));
+        return frequencies;
+    }
+
+    private void addDocument(Long recipeId, Map<String, Integer> frequencies) {
+        Document document = new Document(frequencies, length(frequencies));
+        documents.put(recipeId, document);
+        totalLength += document.length();
+        frequencies.forEach((term, frequency) ->
+                postings.computeIfAbsent(term, key -> new HashMap<>()).put(recipeId, frequency));
+    }
+
+    private void removeDocument(Long recipeId) {
+        Document document = documents.remove(recipeId);
+        if (document == null) {
+            return;
+        }
+        totalLength -= document.length();
+        document.frequencies().keySet().forEach(term -> {
+            Map<Long, Integer> posting = postings.get(term);
+            posting.remove(recipeId);
+            if (posting.isEmpty()) {
+                postings.remove(term);
+            }
+        });
+    }
+
+    private static int length(Map<String, Integer> frequencies) {
+        int length = 0;
+        for (int frequency : frequencies.values()) {
+            length += frequency;
+        }
+        return length;
+    }
+}
@@ -0,0 +1,146 @@
+package com.sparta.igeomubwotna.search;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+// 검색 색인을 시작할 때 만들고 주기적으로 스냅샷 파일에 저장
+// 스냅샷이 있으면 파일을 읽은 뒤 스냅샷 이후 바뀐 레시피만 DB에서 다시 읽고, 없거나 읽을 수 없으면 DB 전체를 한 행씩 읽어서 만듦
+@Slf4j(topic = "검색 색인")
+@Component
+public class RecipeSearchIndexLoader implements SmartInitializingSingleton {
+
+    // 스냅샷 시각 전후로 커밋된 수정 (앱 서버와 DB 시계 차이 포함)을 놓치지 않도록 여유를 두고 다시 읽음
+    private static final Duration CATCH_UP_MARGIN = Duration.ofMinutes(5);
+    private static final int RELOAD_CHUNK_SIZE = 500;
+
+    private final RecipeSearchIndex recipeSearchIndex;
+    private final JdbcTemplate jdbcTemplate;
+    private final Path snapshotPath;
+
+    public RecipeSearchIndexLoader(RecipeSearchIndex recipeSearchIndex,
+                                   DataSource dataSource,
+                                   @Value("${search.snapshot-path:./data/recipe-search.idx}") String snapshotPath) {
+        this.recipeSearchIndex = recipeSearchIndex;
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        // MySQL 드라이버가 결과를 한 번에 받지 않고 한 행씩 스트리밍 (RecipeExportService 와 같음)
+        this.jdbcTemplate.setFetchSize(Integer.MIN_VALUE);
+        this.snapshotPath = Paths.get(snapshotPath);
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        long start = System.currentTimeMillis();
+        if (!loadSnapshot()) {
+            rebuild();
+        }
+        log.info("search index ready: {} recipes, {} ms", recipeSearchIndex.size(), System.currentTimeMillis() - start);
+    }
+
+    // DB 전체로 다시 만듦 (숨긴 레시피 제외)
+    public void rebuild() {
+        jdbcTemplate.query("select id, title, content from recipe where deleted = false", rs -> {
+            recipeSearchIndex.index(rs.getLong("id"), rs.getString("title"), rs.getString("content"));
+        });
+    }
+
+    private boolean loadSnapshot() {
+        if (!Files.exists(snapshotPath)) {
+            return false;
+        }
+        try (DataInputStream in = new DataInputStream(
+                new BufferedInputStream(new GZIPInputStream(Files.newInputStream(snapshotPath))))) {
+            recipeSearchIndex.readSnapshot(in);
+        } catch (IOException e) {
+            log.warn("search index snapshot ignored: {}", e.getMessage());
+            return false;
+        }
+
+        try {
+            catchUp(Files.getLastModifiedTime(snapshotPath).toInstant().minus(CATCH_UP_MARGIN));
+        } catch (IOException e) {
+            log.warn("search index snapshot ignored: {}", e.getMessage());
+            return false;
+        }
+        return true;
+    }
+
+    // 스냅샷 이후 삭제된 레시피는 빼고, 추가되거나 수정된 레시피는 다시 읽음 (id 와 수정 시각만 전체 조회)
+    private void catchUp(Instant since) {
+        LocalDateTime sinceDateTime = LocalDateTime.ofInstant(since, ZoneId.systemDefault());
+        Set<Long> indexed = recipeSearchIndex.getRecipeIds();
+        Set<Long> existing = new HashSet<>();
+        List<Long> changed = new ArrayList<>();
+        jdbcTemplate.query("select id, modified_at from recipe where deleted = false", rs -> {
+            long recipeId = rs.getLong("id");
+            Timestamp modifiedAt = rs.getTimestamp("modified_at");
+            existing.add(recipeId);
+            if (!indexed.contains(recipeId) || modifiedAt == null || !modifiedAt.toLocalDateTime().isBefore(sinceDateTime)) {
+                changed.add(recipeId);
+            }
+        });
+
+        indexed.removeAll(existing);
+        recipeSearchIndex.removeAll(indexed);
+
+        for (int from = 0; from < changed.size(); from += RELOAD_CHUNK_SIZE) {
+            List<Long> chunk = changed.subList(from, Math.min(from + RELOAD_CHUNK_SIZE, changed.size()));
+            jdbcTemplate.query("select id, title, content from recipe where id in ("
+                            + String.join(", ", Collections.nCopies(chunk.size(), "?")) + ")",
+                    rs -> {
+                        recipeSearchIndex.index(rs.getLong("id"), rs.getString("title"), rs.getString("content"));
+                    }, chunk.toArray());
+        }
+        log.info("search index caught up: {} removed, {} reloaded", indexed.size(), changed.size());
+    }
+
+    // 임시 파일에 쓴 뒤 교체 (쓰는 도중 종료되어도 이전 스냅샷 유지)
+    @Scheduled(fixedDelayString = "${search.snapshot-interval-millis:600000}",
+            initialDelayString = "${search.snapshot-interval-millis:600000}")
+    public void saveSnapshot() {
+        try {
+            Path directory = snapshotPath.toAbsolutePath().getParent();
+            Files.createDirectories(directory);
+            Path temp = Files.createTempFile(directory, "recipe-search", ".tmp");
+            try (DataOutputStream out = new DataOutputStream(
+                    new BufferedOutputStream(new GZIPOutputStream(Files.newOutputStream(temp))))) {
+                recipeSearchIndex.writeSnapshot(out);
+            }
+            Files.move(temp, snapshotPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.error("search index snapshot failed: {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void saveSnapshotOnShutdown() {
+        saveSnapshot();
+    }
+}
@@ -0,0 +1,75 @@
+package com.sparta.igeomubwotna.search;
+
+import com.sparta.igeomubwotna.util.TransactionHooks;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// 레시피 제목 자동완성 (좋아요 수가 많은 제목 먼저)
+// 조회는 불변 구조(TitleSuggestions)만 읽고, 레시피가 바뀌면 백그라운드에서 DB로 새로 만든 뒤 참조만 교체
+// 좋아요 수는 반영 주기가 따로 있으므로 변경이 없어도 max-age-millis 마다 다시 만듦
+@Slf4j(topic = "제목 자동완성")
+@Component
+public class RecipeTitleSuggester implements SmartInitializingSingleton {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final long maxAgeMillis;
+    private final AtomicBoolean dirty = new AtomicBoolean();
+    private volatile TitleSuggestions suggestions = TitleSuggestions.EMPTY;
+    private volatile long builtAt;
+
+    public RecipeTitleSuggester(DataSource dataSource,
+                                @Value("${search.suggest.max-age-millis:600000}") long maxAgeMillis) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        // MySQL 드라이버가 결과를 한 번에 받지 않고 한 행씩 스트리밍 (RecipeSearchIndexLoader 와 같음)
+        this.jdbcTemplate.setFetchSize(Integer.MIN_VALUE);
+        this.maxAgeMillis = maxAgeMillis;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        rebuild();
+    }
+
+    public List<String> suggest(String prefix, int limit) {
+        return suggestions.suggest(prefix, limit);
+    }
+
+    // 레시피 저장/수정/삭제 시 호출, 다음 refresh 에서 다시 만듦
+    // 트랜잭션 안이라면 커밋된 경우에만 표시 (커밋 전에 다시 만들면 바뀐 제목을 읽지 못한 채 dirty 가 지워짐)
+    public void markDirty() {
+        TransactionHooks.afterCommit(() -> dirty.set(true));
+    }
+
+    @Scheduled(fixedDelayString = "${search.suggest.refresh-millis:5000}",
+            initialDelayString = "${search.suggest.refresh-millis:5000}")
+    public void refresh() {
+        if (dirty.getAndSet(false) || System.currentTimeMillis() - builtAt >= maxAgeMillis) {
+            try {
+                rebuild();
+            } catch (RuntimeException e) {
+                // 이전 구조로 계속 응답하고 다음 주기에 다시 시도
+                dirty.set(true);
+                log.error("title suggestions rebuild failed: {}", e.getMessage());
+            }
+        }
+    }
+
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        TitleSuggestions.Builder builder = TitleSuggestions.builder();
+        jdbcTemplate.query("select title, recipe_likes from recipe where deleted = false", rs -> {
+            builder.add(rs.getString("title"), rs.getLong("recipe_likes"));
+        });
+        suggestions = builder.build();
+        builtAt = System.currentTimeMillis();
+        log.info("title suggestions rebuilt: {} titles, {} ms", suggestions.size(), builtAt - start);
+    }
+}
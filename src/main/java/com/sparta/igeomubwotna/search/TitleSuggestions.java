@@ -0,0 +1,212 @@
+package com.sparta.igeomubwotna.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+// 레시피 제목 자동완성용 불변 구조
+// 정규화한 제목을 정렬한 배열 (접두어가 같은 제목은 연속된 구간) + 구간 최댓값 표 (sparse table)
+// 조회 : 접두어 구간을 이진 탐색으로 찾고, 구간에서 가중치가 가장 큰 제목을 k번 꺼냄 (구간 크기와 상관없이 O(k^2))
+// 트라이처럼 글자마다 노드 객체를 만들지 않으므로 메모리가 작고, 조회 중에는 크기 k 의 배열만 만듦
+public final class TitleSuggestions {
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    public static final TitleSuggestions EMPTY = new TitleSuggestions(new String[0], new String[0], new long[0]);
+
+    private final String[] keys;    // 정규화한 제목 (정렬됨)
+    private final String[] titles;  // 응답할 원래 제목
+    private final long[] weights;   // 같은 제목 레시피들의 좋아요 수 합
+    // best[j][i] : [i, i + 2^j) 구간에서 가중치가 가장 큰 위치
+    private final int[][] best;
+
+    private TitleSuggestions(String[] keys, String[] titles, long[] weights) {
+        this.keys = keys;
+        this.titles = titles;
+        this.weights = weights;
+        this.best = buildSparseTable();
+    }
+
+    // 같은 제목 (정규화 기준)은 하나로 합치고, 표시할 제목은 좋아요가 가장 많은 레시피의 것
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static final class Builder {
+
+        private final Map<String, Entry> entries = new HashMap<>();
+
+        private Builder() {
+        }
+
+        public Builder add(String title, long likes) {
+            String key = normalize(title);
+            if (key.isEmpty()) {
+                return this;
+            }
+            Entry entry = entries.computeIfAbsent(key, Entry::new);
+            if (entry.title == null || likes > entry.titleLikes) {
+                entry.title = title.strip();
+                entry.titleLikes = likes;
+            }
+            entry.weight += Math.max(likes, 0);
+            return this;
+        }
+
+        public TitleSuggestions build() {
+            List<Entry> sorted = new ArrayList<>(entries.values());
+            sorted.sort(Comparator.comparing(entry -> entry.key));
+            String[] keys = new String[sorted.size()];
+            String[] titles = new String[sorted.size()];
+            long[] weights = new long[sorted.size()];
+            for (int i = 0; i < sorted.size(); i++) {
+                keys[i] = sorted.get(i).key;
+                titles[i] = sorted.get(i).title;
+                weights[i] = sorted.get(i).weight;
+            }
+            return new TitleSuggestions(keys, titles, weights);
+        }
+
+        private static final class Entry {
+            private final String key;
+            private String title;
+            private long titleLikes;
+            private long weight;
+
+            private Entry(String key) {
+                this.key = key;
+            }
+        }
+    }
+
+    // 한글 음절을 자모로 나눠서 비교 (입력 중인 "김ㅊ" 도 "김치..." 와 맞음), 대소문자와 연속 공백 무시
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String decomposed = Normalizer.normalize(text, Normalizer.Form.NFKD).toLowerCase(Locale.ROOT);
+        return WHITESPACE.matcher(decomposed.strip()).replaceAll(" ");
+    }
+
+    public int size() {
+        return keys.length;
+    }
+
+    // 가중치가 큰 순으로 최대 limit 개 (같으면 가나다순)
+    public List<String> suggest(String prefix, int limit) {
+        String key = normalize(prefix);
+        if (key.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        int from = lowerBound(key);
+        int to = prefixEnd(key, from);
+        if (from >= to) {
+            return List.of();
+        }
+
+        // 아직 꺼내지 않은 구간들 (하나를 꺼낼 때마다 구간이 최대 하나 늘어남)
+        int[] starts = new int[limit + 1];
+        int[] ends = new int[limit + 1];
+        int[] maxima = new int[limit + 1];
+        starts[0] = from;
+        ends[0] = to;
+        maxima[0] = rangeBest(from, to);
+        int ranges = 1;
+
+        List<String> result = new ArrayList<>(limit);
+        while (result.size() < limit && ranges > 0) {
+            int pick = 0;
+            for (int r = 1; r < ranges; r++) {
+                if (better(maxima[r], maxima[pick])) {
+                    pick = r;
+                }
+            }
+            int position = maxima[pick];
+            result.add(titles[position]);
+
+            int start = starts[pick];
+            int end = ends[pick];
+            // 꺼낸 구간은 마지막 구간으로 덮고, 남은 왼쪽/오른쪽 구간을 추가
+            ranges--;
+            starts[pick] = starts[ranges];
+            ends[pick] = ends[ranges];
+            maxima[pick] = maxima[ranges];
+            if (start < position) {
+                starts[ranges] = start;
+                ends[ranges] = position;
+                maxima[ranges++] = rangeBest(start, position);
+            }
+            if (position + 1 < end) {
+                starts[ranges] = position + 1;
+                ends[ranges] = end;
+                maxima[ranges++] = rangeBest(position + 1, end);
+            }
+        }
+        return result;
+    }
+
+    // key 이상인 첫 위치
+    private int lowerBound(String key) {
+        int low = 0;
+        int high = keys.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (keys[mid].compareTo(key) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    // from 부터 key 로 시작하지 않는 첫 위치
+    private int prefixEnd(String key, int from) {
+        int low = from;
+        int high = keys.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (keys[mid].startsWith(key)) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    // [from, to) 에서 가중치가 가장 큰 위치, 겹치는 두 구간으로 O(1)
+    private int rangeBest(int from, int to) {
+        int level = 31 - Integer.numberOfLeadingZeros(to - from);
+        int left = best[level][from];
+        int right = best[level][to - (1 << level)];
+        return better(right, left) ? right : left;
+    }
+
+    private boolean better(int a, int b) {
+        return weights[a] > weights[b] || (weights[a] == weights[b] && a < b);
+    }
+
+    private int[][] buildSparseTable() {
+        int n = keys.length;
+        int levels = n == 0 ? 1 : 32 - Integer.numberOfLeadingZeros(n);
+        int[][] table = new int[levels][];
+        table[0] = new int[n];
+        Arrays.setAll(table[0], i -> i);
+        for (int j = 1; j < levels; j++) {
+            int half = 1 << (j - 1);
+            table[j] = new int[n - (1 << j) + 1];
+            for (int i = 0; i < table[j].length; i++) {
+                int left = table[j - 1][i];
+                int right = table[j - 1][i + half];
+                table[j][i] = better(right, left) ? right : left;
+            }
+        }
+        return table;
+    }
+}
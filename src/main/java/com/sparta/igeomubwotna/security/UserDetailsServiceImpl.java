@@ -4,15 +4,18 @@ import com.sparta.igeomubwotna.entity.User;
 import com.sparta.igeomubwotna.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
-public class UserDetailsServiceImpl implements UserDetailsService {
+public class UserDetailsServiceImpl implements UserDetailsService, UserDetailsPasswordService {
 
     private final UserRepository userRepository;
+    private final UserPrincipalCache principalCache;
 
     // Override 함수라 함수명이 고정입니다
     @Override
@@ -21,4 +24,16 @@ public class UserDetailsServiceImpl implements UserDetailsService {
                 .orElseThrow(() -> new UsernameNotFoundException("User not found with userId: " + userId));
         return new UserDetailsImpl(user);
     }
-}
\ No newline at end of file
+
+    // BCrypt cost 설정이 바뀐 경우 로그인 성공 시 새 cost로 인코딩된 비밀번호를 저장 (DaoAuthenticationProvider 가 호출)
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails userDetails, String newPassword) {
+        User user = userRepository.findByUserId(userDetails.getUsername())
+                .orElseThrow(() -> new UsernameNotFoundException("User not found with userId: " + userDetails.getUsername()));
+        user.updatePassword(newPassword);
+        userRepository.save(user);
+        principalCache.evict(user.getUserId());
+        return new UserDetailsImpl(user);
+    }
+}
@@ -0,0 +1,67 @@
+package com.sparta.igeomubwotna.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sparta.igeomubwotna.entity.User;
+import com.sparta.igeomubwotna.repository.UserRepository;
+import com.sparta.igeomubwotna.util.TransactionHooks;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.time.Duration;
+import java.util.Optional;
+
+@Slf4j(topic = "인증 사용자 캐시")
+@Component
+public class UserPrincipalCache {
+
+    private final UserRepository userRepository;
+    // userId(로그인 아이디) -> User
+    private final Cache<String, User> cache;
+
+    public UserPrincipalCache(UserRepository userRepository,
+                              MeterRegistry meterRegistry,
+                              @Value("${cache.principal.max-size:10000}") long maxSize,
+                              @Value("${cache.principal.ttl-seconds:60}") long ttlSeconds) {
+        this.userRepository = userRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize) // 최대 보관 개수
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds)) // TTL
+                .recordStats() // hit / miss 통계 수집
+                .build();
+
+        // cache.gets{result=hit|miss} 등의 지표를 /actuator/metrics 로 노출
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "principal");
+    }
+
+    // 캐시에서 사용자를 찾고, 없으면 DB에서 한 번만 조회하여 캐시에 저장
+    public Optional<User> get(String userId) {
+        if (!StringUtils.hasText(userId)) {
+            return Optional.empty();
+        }
+        // 존재하지 않는 사용자(null)는 캐시하지 않음
+        return Optional.ofNullable(cache.get(userId, key -> userRepository.findByUserId(key).orElse(null)));
+    }
+
+    // 로그아웃, 탈퇴, 프로필 수정 등 사용자 정보가 바뀌면 반드시 호출
+    public void evict(String userId) {
+        if (!StringUtils.hasText(userId)) {
+            return;
+        }
+        // 트랜잭션 안이라면 커밋 전에 다른 요청이 이전 값을 다시 캐시할 수 있으므로 커밋 후 한 번 더 제거
+        TransactionHooks.nowAndAfterCommit(() -> cache.invalidate(userId));
+        log.debug("evict principal: {}", userId);
+    }
+
+    public long getHitCount() {
+        return cache.stats().hitCount();
+    }
+
+    public long getMissCount() {
+        return cache.stats().missCount();
+    }
+}
@@ -2,47 +2,139 @@ package com.sparta.igeomubwotna.service;
 
 import com.sparta.igeomubwotna.dto.CommentRequestDto;
 import com.sparta.igeomubwotna.dto.CommentResponseDto;
+import com.sparta.igeomubwotna.dto.CursorResponseDto;
 import com.sparta.igeomubwotna.entity.Comment;
 import com.sparta.igeomubwotna.entity.Recipe;
 import com.sparta.igeomubwotna.entity.User;
 import com.sparta.igeomubwotna.repository.CommentRepository;
+import com.sparta.igeomubwotna.util.ETags;
+import com.sparta.igeomubwotna.util.PageCursor;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
 public class CommentService {
 
+    private static final int MAX_COMMENT_LIMIT = 100;
+
     private final CommentRepository commentRepository;
     private final RecipeService recipeService;
     private final UserService userService;
+    private final LikeCountAccumulator likeCountAccumulator;
+    private final LikeLookupService likeLookupService;
+    private final CommentLookupCache commentLookupCache;
+    private final TrendingRecipeTracker trendingRecipeTracker;
 
     /* Create : 댓글 작성 */
     public ResponseEntity createComment(CommentRequestDto requestDto, Long recipeId, User user) {
         Recipe recipe = recipeService.findById(recipeId);
         Comment comment = new Comment(requestDto, recipe, user);
 
-        commentRepository.save(comment);
+        comment = commentRepository.save(comment);
+        commentLookupCache.clearMissing(List.of(comment.getId()));
+        recipeService.addCommentCount(recipeId, 1L);
+        trendingRecipeTracker.recipeCommented(recipeId, 1L);
         return ResponseEntity.ok("comment가 등록되었습니다.");
     }
 
-    /* Read : 댓글 조회 (레시피에 대한 전체 댓글) */
+    /* Read : 댓글 조회 (파라미터 없는 기존 방식, 오래된 순으로 최대 MAX_COMMENT_LIMIT 개) */
+    // 댓글이 많은 레시피도 한 번에 전부 불러오지 않도록 제한, 나머지는 커서 방식(getCommentPage)으로 조회
     public List<CommentResponseDto> getComment(Long recipeId) {
+        return getComment(recipeId, null);
+    }
+
+    // viewer : 로그인 사용자 (있으면 likedByMe 를 채움)
+    public List<CommentResponseDto> getComment(Long recipeId, User viewer) {
 
-        List<Comment> commentList = commentRepository.findByRecipeId(recipeId);
+        List<Comment> commentList = commentRepository.findOldest(recipeId, PageRequest.of(0, MAX_COMMENT_LIMIT));
         List<CommentResponseDto> commentResponseDtoList = new ArrayList<>();
 
         for (Comment comment : commentList) {
-            commentResponseDtoList.add(CommentResponseDto.toDto(comment));
+            commentResponseDtoList.add(toDto(comment));
         }
+        markLiked(commentResponseDtoList, viewer);
         return commentResponseDtoList;
     }
 
+    /* Read : 댓글 조회 (limit 개씩, 커서 이후) */
+    public CursorResponseDto<CommentResponseDto> getCommentPage(Long recipeId, int limit, String cursor, String sort) {
+        return getCommentPage(recipeId, limit, cursor, sort, null);
+    }
+
+    public CursorResponseDto<CommentResponseDto> getCommentPage(Long recipeId, int limit, String cursor, String sort, User viewer) {
+        if (limit < 1 || limit > MAX_COMMENT_LIMIT) {
+            throw new IllegalArgumentException("limit 은 1 ~ " + MAX_COMMENT_LIMIT + " 사이여야 합니다.");
+        }
+        // 다음 페이지 존재 여부를 알기 위해 한 건 더 조회
+        Pageable pageable = PageRequest.of(0, limit + 1);
+        List<Comment> comments;
+
+        switch (sort) {
+            case "newest" -> {
+                if (cursor == null) {
+                    comments = commentRepository.findNewest(recipeId, pageable);
+                } else {
+                    PageCursor pageCursor = PageCursor.decode(cursor, sort);
+                    comments = commentRepository.findNewestAfterCursor(recipeId, pageCursor.localDateTimeValue(), pageCursor.id(), pageable);
+                }
+            }
+            case "oldest" -> {
+                if (cursor == null) {
+                    comments = commentRepository.findOldest(recipeId, pageable);
+                } else {
+                    PageCursor pageCursor = PageCursor.decode(cursor, sort);
+                    comments = commentRepository.findOldestAfterCursor(recipeId, pageCursor.localDateTimeValue(), pageCursor.id(), pageable);
+                }
+            }
+            case "most-liked" -> {
+                if (cursor == null) {
+                    comments = commentRepository.findMostLiked(recipeId, pageable);
+                } else {
+                    PageCursor pageCursor = PageCursor.decode(cursor, sort);
+                    comments = commentRepository.findMostLikedAfterCursor(recipeId, pageCursor.longValue(), pageCursor.id(), pageable);
+                }
+            }
+            default -> throw new IllegalArgumentException("정렬은 newest, oldest, most-liked 중 하나여야 합니다.");
+        }
+
+        String next = null;
+        if (comments.size() > limit) {
+            comments = comments.subList(0, limit);
+            Comment last = comments.get(limit - 1);
+            String value = sort.equals("most-liked") ? String.valueOf(last.getLikeCount()) : last.getCreatedAt().toString();
+            next = new PageCursor(sort, value, last.getId()).encode();
+        }
+
+        List<CommentResponseDto> content = comments.stream().map(this::toDto).toList();
+        markLiked(content, viewer);
+        return new CursorResponseDto<>(content, next);
+    }
+
+    /* Read : 조건부 GET 용 ETag (응답할 페이지 기준) */
+    // 페이지를 조회한 뒤 그 댓글들의 id, 내용, 좋아요 수(반영 전 증감 포함), likedByMe 와 다음 커서로 만듦
+    // 레시피의 전체 댓글을 읽지 않으므로 댓글이 많아도 페이지 크기만큼만 비용이 듦
+    public String getCommentsETag(Long recipeId, List<CommentResponseDto> comments, String next) {
+        List<Object> parts = new ArrayList<>(comments.size() * 4 + 2);
+        parts.add(recipeId);
+        parts.add(next);
+        for (CommentResponseDto comment : comments) {
+            parts.add(comment.getId());
+            parts.add(comment.getContent());
+            parts.add(comment.getLikeCount());
+            parts.add(comment.getLikedByMe());
+        }
+        return ETags.weak(parts.toArray());
+    }
+
     /* Update : 댓글 수정 */
     @Transactional
     public ResponseEntity updateComment(Long recipeId, Long commentId, CommentRequestDto requestDto, User user) {
@@ -64,16 +156,49 @@ public class CommentService {
         checkUser(user, comment, recipe);
 
         commentRepository.delete(comment);
+        commentLookupCache.evict(commentId);
+        recipeService.addCommentCount(recipeId, -1L);
+        trendingRecipeTracker.recipeUncommented(recipeId, comment.getCreatedAt());
     }
 
 
     /* ID로 comment 찾기 */
+    // 최근에 없다고 확인된 id 는 DB를 조회하지 않음
     public Comment findById(Long commentId) {
-        return commentRepository.findById(commentId).orElseThrow(() ->
+        if (commentLookupCache.isMissing(commentId)) {
+            throw new IllegalArgumentException("해당 댓글이 존재하지 않습니다.");
+        }
+        Comment comment = commentRepository.findById(commentId).orElse(null);
+        if (comment == null) {
+            commentLookupCache.markMissing(commentId);
+            throw new IllegalArgumentException("해당 댓글이 존재하지 않습니다.");
+        }
+        commentLookupCache.putAuthorId(commentId, comment.getUser().getId());
+        return comment;
+    }
+
+    /* 작성자 확인만 필요한 경우 (같은 id 동시 조회는 한 번만 DB 조회) */
+    public Long findAuthorId(Long commentId) {
+        return commentLookupCache.getAuthorId(commentId, commentRepository::findAuthorIdById).orElseThrow(() ->
                 new IllegalArgumentException("해당 댓글이 존재하지 않습니다.")
         );
     }
 
+    // 아직 DB에 반영되지 않은 좋아요 증감을 더해서 응답
+    private CommentResponseDto toDto(Comment comment) {
+        return CommentResponseDto.toDto(comment, likeCountAccumulator.getPendingCommentLikes(comment.getId()));
+    }
+
+    // 목록의 댓글 중 viewer 가 좋아요한 것을 한 번에 조회해서 표시
+    private void markLiked(List<CommentResponseDto> comments, User viewer) {
+        if (viewer == null || comments.isEmpty()) {
+            return;
+        }
+        Set<Long> liked = likeLookupService.findLikedCommentIds(viewer.getId(),
+                comments.stream().map(CommentResponseDto::getId).toList());
+        comments.forEach(comment -> comment.setLikedByMe(liked.contains(comment.getId())));
+    }
+
     /* 예외처리 */
     private void checkUser(User user, Comment comment, Recipe recipe) {
         // 게시글과 댓글의 관계가 없을 경우
@@ -0,0 +1,84 @@
+package com.sparta.igeomubwotna.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.sparta.igeomubwotna.util.TransactionHooks;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.function.Function;
+
+// id -> 작성자 id 캐시 (없는 id 는 Optional.empty 로 짧게 캐시 : negative cache)
+// 같은 id 를 동시에 조회하면 한 요청만 DB를 조회하고 나머지는 그 결과를 기다렸다가 같이 사용 (single-flight)
+public abstract class IdLookupCache {
+
+    private final Cache<Long, Optional<Long>> cache;
+
+    protected IdLookupCache(String name, MeterRegistry meterRegistry, long maxSize, long ttlSeconds, long missingTtlSeconds) {
+        long ttlNanos = Duration.ofSeconds(ttlSeconds).toNanos();
+        long missingTtlNanos = Duration.ofSeconds(missingTtlSeconds).toNanos();
+
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                // 존재하는 id 는 ttl, 없는 id 는 missing-ttl 동안 보관
+                .expireAfter(new Expiry<Long, Optional<Long>>() {
+                    @Override
+                    public long expireAfterCreate(Long id, Optional<Long> authorId, long currentTime) {
+                        return authorId.isPresent() ? ttlNanos : missingTtlNanos;
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(Long id, Optional<Long> authorId, long currentTime, long currentDuration) {
+                        return expireAfterCreate(id, authorId, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(Long id, Optional<Long> authorId, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, name);
+    }
+
+    // 작성자 id 조회, 없는 id 면 Optional.empty
+    public Optional<Long> getAuthorId(Long id, Function<Long, Optional<Long>> loader) {
+        return cache.get(id, loader);
+    }
+
+    // 최근에 없다고 확인된 id 인지
+    public boolean isMissing(Long id) {
+        Optional<Long> authorId = cache.getIfPresent(id);
+        return authorId != null && authorId.isEmpty();
+    }
+
+    public void markMissing(Long id) {
+        cache.put(id, Optional.empty());
+    }
+
+    // 엔티티를 조회한 김에 작성자 id 도 채워 둠
+    public void putAuthorId(Long id, Long authorId) {
+        cache.put(id, Optional.of(authorId));
+    }
+
+    public void evict(Long id) {
+        cache.invalidate(id);
+    }
+
+    // 새로 저장한 id 가 "없음" 으로 캐시되어 있을 수 있으므로 그 id 의 기록만 제거 (전체 캐시를 훑지 않음)
+    // 커밋 전에 다른 요청이 다시 "없음" 으로 캐시할 수 있으므로 커밋 후 한 번 더 제거
+    public void clearMissing(Collection<Long> ids) {
+        TransactionHooks.nowAndAfterCommit(() -> removeMissing(ids));
+    }
+
+    // 작성자 id 가 캐시된 경우는 그대로 둠
+    private void removeMissing(Collection<Long> ids) {
+        ids.forEach(id -> cache.asMap().remove(id, Optional.empty()));
+    }
+}
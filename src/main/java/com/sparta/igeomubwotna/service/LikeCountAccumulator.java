@@ -0,0 +1,139 @@
+package com.sparta.igeomubwotna.service;
+
+import com.sparta.igeomubwotna.util.TransactionHooks;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+// 레시피, 댓글 좋아요 수 증감을 메모리에 모았다가 주기적으로 한 번에 UPDATE
+// 같은 행을 여러 요청이 동시에 읽고 고치는 대신 LongAdder(스트라이프 카운터)에 더하기만 하므로 행 잠금 경합과 갱신 손실이 없음
+@Slf4j(topic = "좋아요 수 집계")
+@Component
+public class LikeCountAccumulator {
+
+    static final String RECIPE_UPDATE_SQL =
+            "update recipe set recipe_likes = coalesce(recipe_likes, 0) + ? where id = ?";
+    static final String COMMENT_UPDATE_SQL =
+            "update comment set like_count = coalesce(like_count, 0) + ? where id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    // 좋아요 수가 DB에 반영되면 캐시된 레시피 응답을 제거
+    private final RecipeResponseCache recipeResponseCache;
+
+    // id -> 아직 DB에 반영되지 않은 증감
+    private final Map<Long, LongAdder> recipeDeltas = new ConcurrentHashMap<>();
+    private final Map<Long, LongAdder> commentDeltas = new ConcurrentHashMap<>();
+
+    // 직전 flush 에서 맵에서 뺀 카운터
+    // 제거 직전에 참조를 얻은 요청이 뒤늦게 더한 값이 있을 수 있어 다음 flush 에서 한 번 더 반영
+    private List<Map.Entry<Long, LongAdder>> retiredRecipeDeltas = new ArrayList<>();
+    private List<Map.Entry<Long, LongAdder>> retiredCommentDeltas = new ArrayList<>();
+
+    public LikeCountAccumulator(JdbcTemplate jdbcTemplate, RecipeResponseCache recipeResponseCache) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.recipeResponseCache = recipeResponseCache;
+    }
+
+    // 트랜잭션 안이라면 커밋된 경우에만 반영 (롤백된 좋아요가 집계되지 않도록)
+    public void addRecipeLike(Long recipeId, long delta) {
+        TransactionHooks.afterCommit(() -> recipeDeltas.computeIfAbsent(recipeId, id -> new LongAdder()).add(delta));
+    }
+
+    public void addCommentLike(Long commentId, long delta) {
+        TransactionHooks.afterCommit(() -> commentDeltas.computeIfAbsent(commentId, id -> new LongAdder()).add(delta));
+    }
+
+    // 조회 시 DB 값에 더할 아직 반영되지 않은 증감
+    public long getPendingRecipeLikes(Long recipeId) {
+        return pending(recipeDeltas, recipeId);
+    }
+
+    public long getPendingCommentLikes(Long commentId) {
+        return pending(commentDeltas, commentId);
+    }
+
+    @Scheduled(fixedDelayString = "${like.counter.flush-interval-millis:1000}")
+    public synchronized void flush() {
+        retiredRecipeDeltas = flush(RECIPE_UPDATE_SQL, recipeDeltas, retiredRecipeDeltas, recipeResponseCache::evictAll);
+        retiredCommentDeltas = flush(COMMENT_UPDATE_SQL, commentDeltas, retiredCommentDeltas, ids -> { });
+    }
+
+    // 종료 시 남은 증감을 모두 반영
+    @PreDestroy
+    public synchronized void flushOnShutdown() {
+        flush();
+        // 방금 제거된 카운터까지 반영
+        flush();
+    }
+
+    // flushed : 반영에 성공한 id 목록을 받음
+    // 카운터는 UPDATE 가 성공한 뒤에 반영한 만큼만 뺌 (UPDATE 하는 동안에도 조회 시 증감이 보이도록)
+    private List<Map.Entry<Long, LongAdder>> flush(String sql, Map<Long, LongAdder> deltas,
+                                                   List<Map.Entry<Long, LongAdder>> retired,
+                                                   Consumer<Collection<Long>> flushed) {
+        Map<Long, Long> batch = new HashMap<>();
+        // 카운터 -> 이번에 반영할 값
+        Map<LongAdder, Long> drained = new IdentityHashMap<>();
+        List<Map.Entry<Long, LongAdder>> nextRetired = new ArrayList<>();
+
+        for (Map.Entry<Long, LongAdder> entry : retired) {
+            long delta = entry.getValue().sum();
+            if (delta != 0) {
+                batch.merge(entry.getKey(), delta, Long::sum);
+                drained.put(entry.getValue(), delta);
+            }
+        }
+
+        for (Map.Entry<Long, LongAdder> entry : deltas.entrySet()) {
+            long delta = entry.getValue().sum();
+            if (delta != 0) {
+                batch.merge(entry.getKey(), delta, Long::sum);
+                drained.put(entry.getValue(), delta);
+            } else if (deltas.remove(entry.getKey(), entry.getValue())) {
+                // 한 주기 동안 변화가 없던 카운터는 정리
+                nextRetired.add(Map.entry(entry.getKey(), entry.getValue()));
+            }
+        }
+
+        if (batch.isEmpty()) {
+            return nextRetired;
+        }
+
+        List<Object[]> args = new ArrayList<>(batch.size());
+        batch.forEach((id, delta) -> args.add(new Object[]{delta, id}));
+        try {
+            jdbcTemplate.batchUpdate(sql, args);
+        } catch (RuntimeException e) {
+            // 맵에 있는 카운터는 그대로 남아 다음 주기에 재시도, 맵에서 뺀 카운터의 값만 다시 옮김
+            log.error("좋아요 수 반영 실패, 다음 주기에 재시도합니다: {}", e.getMessage());
+            for (Map.Entry<Long, LongAdder> entry : retired) {
+                Long delta = drained.remove(entry.getValue());
+                if (delta != null) {
+                    entry.getValue().add(-delta);
+                    deltas.computeIfAbsent(entry.getKey(), key -> new LongAdder()).add(delta);
+                }
+            }
+            return nextRetired;
+        }
+        drained.forEach((adder, delta) -> adder.add(-delta));
+        flushed.accept(batch.keySet());
+        return nextRetired;
+    }
+
+    private long pending(Map<Long, LongAdder> deltas, Long id) {
+        LongAdder adder = deltas.get(id);
+        return adder == null ? 0L : adder.sum();
+    }
+}
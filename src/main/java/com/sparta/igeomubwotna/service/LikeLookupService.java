@@ -0,0 +1,176 @@
+package com.sparta.igeomubwotna.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sparta.igeomubwotna.repository.CommentLikesRepository;
+import com.sparta.igeomubwotna.repository.RecipeLikesRepository;
+import com.sparta.igeomubwotna.util.TransactionHooks;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.stream.LongStream;
+
+// "이 레시피/댓글들에 내가 좋아요를 눌렀나?" 를 한 번에 조회
+// 사용자별로 확인한 id 와 그 중 좋아요한 id 를 정렬된 long 배열로 캐시해서 같은 페이지를 다시 볼 때는 DB 조회 없음
+@Service
+public class LikeLookupService {
+
+    public static final int MAX_LOOKUP_SIZE = 100;
+
+    private final RecipeLikesRepository recipeLikesRepository;
+    private final CommentLikesRepository commentLikesRepository;
+    // 사용자 id -> 확인한 id / 좋아요한 id
+    private final Cache<Long, LikedIds> recipeCache;
+    private final Cache<Long, LikedIds> commentCache;
+
+    public LikeLookupService(RecipeLikesRepository recipeLikesRepository,
+                             CommentLikesRepository commentLikesRepository,
+                             MeterRegistry meterRegistry,
+                             @Value("${cache.liked.max-ids:1000000}") long maxIds,
+                             @Value("${cache.liked.ttl-seconds:600}") long ttlSeconds) {
+        this.recipeLikesRepository = recipeLikesRepository;
+        this.commentLikesRepository = commentLikesRepository;
+        this.recipeCache = buildCache(maxIds, ttlSeconds);
+        this.commentCache = buildCache(maxIds, ttlSeconds);
+
+        CaffeineCacheMetrics.monitor(meterRegistry, recipeCache, "likedRecipes");
+        CaffeineCacheMetrics.monitor(meterRegistry, commentCache, "likedComments");
+    }
+
+    private static Cache<Long, LikedIds> buildCache(long maxIds, long ttlSeconds) {
+        return Caffeine.newBuilder()
+                .maximumWeight(maxIds) // 전체 캐시에 보관할 id 개수
+                .weigher((Long userId, LikedIds ids) -> ids.weight())
+                .expireAfterAccess(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+    }
+
+    public Set<Long> findLikedRecipeIds(Long userId, Collection<Long> recipeIds) {
+        return findLiked(recipeCache, userId, recipeIds, recipeLikesRepository::findLikedRecipeIds);
+    }
+
+    public Set<Long> findLikedCommentIds(Long userId, Collection<Long> commentIds) {
+        return findLiked(commentCache, userId, commentIds, commentLikesRepository::findLikedCommentIds);
+    }
+
+    // 좋아요/좋아요 해제 후 호출 (캐시를 비우지 않고 해당 id 만 갱신)
+    public void recipeLiked(Long userId, Long recipeId, boolean liked) {
+        TransactionHooks.afterCommit(() -> update(recipeCache, userId, recipeId, liked));
+    }
+
+    public void commentLiked(Long userId, Long commentId, boolean liked) {
+        TransactionHooks.afterCommit(() -> update(commentCache, userId, commentId, liked));
+    }
+
+    // 좋아요 여부를 알 수 없게 된 id 를 캐시에서 제거 (다음 조회 때 DB에서 확인)
+    public void forgetRecipe(Long userId, Long recipeId) {
+        TransactionHooks.afterCommit(() -> recipeCache.asMap().computeIfPresent(userId, (key, old) -> old.without(recipeId)));
+    }
+
+    public void forgetComment(Long userId, Long commentId) {
+        TransactionHooks.afterCommit(() -> commentCache.asMap().computeIfPresent(userId, (key, old) -> old.without(commentId)));
+    }
+
+    private Set<Long> findLiked(Cache<Long, LikedIds> cache, Long userId, Collection<Long> ids,
+                                BiFunction<Long, Collection<Long>, List<Long>> query) {
+        if (userId == null || ids.isEmpty()) {
+            return Set.of();
+        }
+        LikedIds cached = cache.getIfPresent(userId);
+        Set<Long> liked = new HashSet<>();
+        List<Long> unknown = new ArrayList<>();
+        for (Long id : new LinkedHashSet<>(ids)) {
+            if (cached != null && cached.isKnown(id)) {
+                if (cached.isLiked(id)) {
+                    liked.add(id);
+                }
+            } else {
+                unknown.add(id);
+            }
+        }
+
+        if (!unknown.isEmpty()) {
+            // IN 목록이 너무 길어지지 않도록 MAX_LOOKUP_SIZE 개씩 조회
+            Set<Long> found = new HashSet<>();
+            for (int from = 0; from < unknown.size(); from += MAX_LOOKUP_SIZE) {
+                found.addAll(query.apply(userId, unknown.subList(from, Math.min(from + MAX_LOOKUP_SIZE, unknown.size()))));
+            }
+            liked.addAll(found);
+            // 조회하는 사이 좋아요/해제로 먼저 갱신된 id 는 그 값이 더 최신이므로 덮어쓰지 않음
+            cache.asMap().merge(userId, LikedIds.EMPTY.withLookup(unknown, found),
+                    (old, fresh) -> old.withLookup(unknown, found));
+        }
+        return liked;
+    }
+
+    private void update(Cache<Long, LikedIds> cache, Long userId, Long id, boolean liked) {
+        // 캐시가 없어도 만들어 둠 (커밋 전에 시작된 조회가 이전 값을 캐시하지 않도록)
+        cache.asMap().compute(userId, (key, old) -> (old == null ? LikedIds.EMPTY : old).with(id, liked));
+    }
+
+    // 불변 객체 : 갱신할 때마다 새 배열을 만들어 교체 (조회는 잠금 없이 이진 탐색)
+    static final class LikedIds {
+
+        static final LikedIds EMPTY = new LikedIds(new long[0], new long[0]);
+
+        private final long[] known; // 확인한 id (정렬)
+        private final long[] liked; // 그 중 좋아요한 id (정렬)
+
+        private LikedIds(long[] known, long[] liked) {
+            this.known = known;
+            this.liked = liked;
+        }
+
+        boolean isKnown(long id) {
+            return Arrays.binarySearch(known, id) >= 0;
+        }
+
+        boolean isLiked(long id) {
+            return Arrays.binarySearch(liked, id) >= 0;
+        }
+
+        int weight() {
+            return known.length + liked.length + 1;
+        }
+
+        LikedIds withLookup(Collection<Long> checked, Set<Long> likedIds) {
+            long[] newKnown = checked.stream().mapToLong(Long::longValue).filter(id -> !isKnown(id)).toArray();
+            long[] newLiked = Arrays.stream(newKnown).filter(likedIds::contains).toArray();
+            return new LikedIds(union(known, newKnown), union(liked, newLiked));
+        }
+
+        LikedIds with(long id, boolean isLiked) {
+            long[] nextLiked = isLiked
+                    ? union(liked, new long[]{id})
+                    : Arrays.stream(liked).filter(likedId -> likedId != id).toArray();
+            return new LikedIds(union(known, new long[]{id}), nextLiked);
+        }
+
+        LikedIds without(long id) {
+            if (!isKnown(id)) {
+                return this;
+            }
+            return new LikedIds(Arrays.stream(known).filter(knownId -> knownId != id).toArray(),
+                    Arrays.stream(liked).filter(likedId -> likedId != id).toArray());
+        }
+
+        private static long[] union(long[] sorted, long[] added) {
+            if (added.length == 0) {
+                return sorted;
+            }
+            return LongStream.concat(Arrays.stream(sorted), Arrays.stream(added)).sorted().distinct().toArray();
+        }
+    }
+}
@@ -3,12 +3,18 @@ package com.sparta.igeomubwotna.service;
 import com.sparta.igeomubwotna.entity.*;
 import com.sparta.igeomubwotna.repository.CommentLikesRepository;
 import com.sparta.igeomubwotna.repository.RecipeLikesRepository;
+import com.sparta.igeomubwotna.service.LikeWriteBehindQueue.LikeEvent;
+import com.sparta.igeomubwotna.service.LikeWriteBehindQueue.Target;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 @Slf4j
 @Service
 @RequiredArgsConstructor
@@ -16,30 +22,31 @@ public class LikeService {
 
     private final RecipeLikesRepository recipeLikesRepository;
     private final CommentLikesRepository commentLikesRepository;
-    private final UserService userService;
     private final RecipeService recipeService;
     private final CommentService commentService;
+    // 좋아요 수는 엔티티를 직접 수정하지 않고 집계기에 증감만 기록 (주기적으로 일괄 반영)
+    private final LikeCountAccumulator likeCountAccumulator;
+    // like.async.enabled 인 경우 PUT/DELETE 요청을 큐에 넣고 202로 응답
+    private final LikeWriteBehindQueue likeWriteBehindQueue;
+    // 사용자별 좋아요 여부 캐시 (좋아요/해제 시 해당 id 만 갱신)
+    private final LikeLookupService likeLookupService;
+    // 인기 급상승 점수 (실제로 추가/삭제된 레시피 좋아요만)
+    private final TrendingRecipeTracker trendingRecipeTracker;
 
     @Transactional
     public ResponseEntity addRecipeLike(Long recipeId, User user) {
 
-        User foundUser = userService.findById(user.getId());
-
-        Recipe foundRecipe = recipeService.findById(recipeId);
-
-        if (foundUser.getUserId().equals(foundRecipe.getUser().getUserId())) {
-            throw new IllegalArgumentException("자신이 작성한 레시피에는 좋아요를 남길 수 없습니다.");
-        }
-
-        var RecipeLikes = new RecipeLikes(foundUser, foundRecipe);
+        checkNotRecipeAuthor(recipeId, user);
 
-        if (recipeLikesRepository.findByUserAndRecipe(foundUser, foundRecipe).isPresent()) {
+        // 중복 확인과 추가를 한 번에 (동시에 두 번 눌러도 unique 제약으로 한 건만 추가됨)
+        if (recipeLikesRepository.insertIfAbsent(user.getId(), recipeId) == 0) {
             throw new IllegalArgumentException("이미 좋아요를 누른 레시피입니다.");
         }
 
-        recipeLikesRepository.save(RecipeLikes);
+        likeCountAccumulator.addRecipeLike(recipeId, 1L);
 
-        foundRecipe.addLike();
+        trendingRecipeTracker.recipeLiked(recipeId, 1L);
+        likeLookupService.recipeLiked(user.getId(), recipeId, true);
 
         return ResponseEntity.status(200).body("좋아요 성공!");
     }
@@ -50,39 +57,68 @@ public class LikeService {
         RecipeLikes foundlike = recipeLikesRepository.findById(recipeLikeId).orElseThrow(
                 () -> new IllegalArgumentException("해당 좋아요가 존재하지 않습니다."));
 
-        Recipe foundRecipe = recipeService.findById(foundlike.getRecipe().getId());
-
-        if (!(user.getUserId().equals(foundlike.getUser().getUserId()))) {
+        if (!(user.getId().equals(foundlike.getUser().getId()))) {
             throw new IllegalArgumentException("다른 사람의 좋아요는 삭제할 수 없습니다.");
         }
 
-        recipeLikesRepository.delete(foundlike);
-
-        foundRecipe.minusLike();
+        Long recipeId = foundlike.getRecipe().getId();
+        if (recipeLikesRepository.deleteByUserIdAndRecipeId(user.getId(), recipeId) == 1) {
+            likeCountAccumulator.addRecipeLike(recipeId, -1L);
+            trendingRecipeTracker.recipeUnliked(recipeId, foundlike.getCreatedAt());
+        }
+        likeLookupService.recipeLiked(user.getId(), recipeId, false);
 
         return ResponseEntity.status(200).body("좋아요 취소 성공!");
     }
 
-    @Transactional
-    public ResponseEntity addCommentLike(Long commentId, User user) {
+    // PUT : 이미 좋아요 상태여도 성공 (멱등), 실제로 추가된 경우에만 좋아요 수 증가
+    // 트랜잭션 없이 시작 (비동기로 접수되면 DB 커넥션을 쓰지 않음), 추가/삭제 쿼리는 각자 트랜잭션에서 실행
+    public ResponseEntity likeRecipe(Long recipeId, User user) {
 
-        User foundUser = userService.findById(user.getId());
+        if (enqueue(Target.RECIPE, recipeId, user, true)) {
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body("좋아요 요청이 접수되었습니다.");
+        }
 
-        Comment foundComment = commentService.findById(commentId);
+        checkNotRecipeAuthor(recipeId, user);
 
-        if (foundUser.getUserId().equals(foundComment.getUser().getUserId())) {
-            throw new IllegalArgumentException("자신이 작성한 댓글에는 좋아요를 남길 수 없습니다.");
+        if (recipeLikesRepository.insertIfAbsent(user.getId(), recipeId) == 1) {
+            likeCountAccumulator.addRecipeLike(recipeId, 1L);
+            trendingRecipeTracker.recipeLiked(recipeId, 1L);
         }
+        likeLookupService.recipeLiked(user.getId(), recipeId, true);
 
-        if (commentLikesRepository.findByUserAndComment(foundUser, foundComment).isPresent()) {
-            throw new IllegalArgumentException("이미 좋아요를 누른 댓글입니다.");
+        return ResponseEntity.status(200).body("좋아요 성공!");
+    }
+
+    // DELETE : 좋아요가 없어도 성공 (멱등), 실제로 삭제된 경우에만 좋아요 수 감소
+    public ResponseEntity unlikeRecipe(Long recipeId, User user) {
+
+        if (enqueue(Target.RECIPE, recipeId, user, false)) {
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body("좋아요 취소 요청이 접수되었습니다.");
+        }
+
+        // 인기 급상승 점수에서 뺄 가중치를 알기 위해 좋아요를 누른 시각을 먼저 조회
+        LocalDateTime likedAt = recipeLikesRepository.findCreatedAt(user.getId(), recipeId).orElse(null);
+        if (recipeLikesRepository.deleteByUserIdAndRecipeId(user.getId(), recipeId) == 1) {
+            likeCountAccumulator.addRecipeLike(recipeId, -1L);
+            trendingRecipeTracker.recipeUnliked(recipeId, likedAt);
         }
+        likeLookupService.recipeLiked(user.getId(), recipeId, false);
+
+        return ResponseEntity.status(200).body("좋아요 취소 성공!");
+    }
+
+    @Transactional
+    public ResponseEntity addCommentLike(Long commentId, User user) {
 
-        var CommentLikes = new CommentLikes(foundUser, foundComment);
+        checkNotCommentAuthor(commentId, user);
 
-        commentLikesRepository.save(CommentLikes);
+        if (commentLikesRepository.insertIfAbsent(user.getId(), commentId) == 0) {
+            throw new IllegalArgumentException("이미 좋아요를 누른 댓글입니다.");
+        }
 
-        foundComment.addLike();
+        likeCountAccumulator.addCommentLike(commentId, 1L);
+        likeLookupService.commentLiked(user.getId(), commentId, true);
 
         return ResponseEntity.status(200).body("좋아요 성공!");
     }
@@ -93,16 +129,86 @@ public class LikeService {
         CommentLikes foundLike = commentLikesRepository.findById(commentLikeId).orElseThrow(
                 () -> new IllegalArgumentException("해당 좋아요가 존재하지 않습니다."));
 
-        Comment foundComment = commentService.findById(foundLike.getComment().getId());
-
-        if (!(user.getUserId().equals(foundLike.getUser().getUserId()))) {
+        if (!(user.getId().equals(foundLike.getUser().getId()))) {
             throw new IllegalArgumentException("다른 사람의 좋아요는 삭제할 수 없습니다.");
         }
 
-        commentLikesRepository.delete(foundLike);
+        Long commentId = foundLike.getComment().getId();
+        if (commentLikesRepository.deleteByUserIdAndCommentId(user.getId(), commentId) == 1) {
+            likeCountAccumulator.addCommentLike(commentId, -1L);
+        }
+        likeLookupService.commentLiked(user.getId(), commentId, false);
 
-        foundComment.minusLike();
+        return ResponseEntity.status(200).body("좋아요 취소 성공!");
+    }
+
+    public ResponseEntity likeComment(Long commentId, User user) {
+
+        if (enqueue(Target.COMMENT, commentId, user, true)) {
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body("좋아요 요청이 접수되었습니다.");
+        }
+
+        checkNotCommentAuthor(commentId, user);
+
+        if (commentLikesRepository.insertIfAbsent(user.getId(), commentId) == 1) {
+            likeCountAccumulator.addCommentLike(commentId, 1L);
+        }
+        likeLookupService.commentLiked(user.getId(), commentId, true);
+
+        return ResponseEntity.status(200).body("좋아요 성공!");
+    }
+
+    public ResponseEntity unlikeComment(Long commentId, User user) {
+
+        if (enqueue(Target.COMMENT, commentId, user, false)) {
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body("좋아요 취소 요청이 접수되었습니다.");
+        }
+
+        if (commentLikesRepository.deleteByUserIdAndCommentId(user.getId(), commentId) == 1) {
+            likeCountAccumulator.addCommentLike(commentId, -1L);
+        }
+        likeLookupService.commentLiked(user.getId(), commentId, false);
 
         return ResponseEntity.status(200).body("좋아요 취소 성공!");
     }
+
+    // 비동기 모드에서 큐에 넣었으면 true, 꺼져 있거나 큐가 가득 차면 false (동기 방식으로 처리)
+    // 좋아요 여부 캐시는 저장된 뒤 LikeWriteBehindQueue 가 갱신 (접수만 된 요청은 반영하지 않음)
+    private boolean enqueue(Target target, Long targetId, User user, boolean liked) {
+        return likeWriteBehindQueue.isEnabled()
+                && likeWriteBehindQueue.offer(new LikeEvent(target, targetId, user.getId(), liked));
+    }
+
+    // 주어진 레시피 중 좋아요한 레시피 id 목록
+    public ResponseEntity getLikedRecipeIds(List<Long> recipeIds, User user) {
+        checkLookupSize(recipeIds);
+        return ResponseEntity.status(200).body(
+                likeLookupService.findLikedRecipeIds(user.getId(), recipeIds).stream().sorted().toList());
+    }
+
+    // 주어진 댓글 중 좋아요한 댓글 id 목록
+    public ResponseEntity getLikedCommentIds(List<Long> commentIds, User user) {
+        checkLookupSize(commentIds);
+        return ResponseEntity.status(200).body(
+                likeLookupService.findLikedCommentIds(user.getId(), commentIds).stream().sorted().toList());
+    }
+
+    private void checkLookupSize(List<Long> ids) {
+        if (ids.size() > LikeLookupService.MAX_LOOKUP_SIZE) {
+            throw new IllegalArgumentException("한 번에 " + LikeLookupService.MAX_LOOKUP_SIZE + "개까지 조회할 수 있습니다.");
+        }
+    }
+
+    // 레시피 존재 여부와 작성자 확인 (작성자 id 만 조회, 캐시됨)
+    private void checkNotRecipeAuthor(Long recipeId, User user) {
+        if (recipeService.findAuthorId(recipeId).equals(user.getId())) {
+            throw new IllegalArgumentException("자신이 작성한 레시피에는 좋아요를 남길 수 없습니다.");
+        }
+    }
+
+    private void checkNotCommentAuthor(Long commentId, User user) {
+        if (commentService.findAuthorId(commentId).equals(user.getId())) {
+            throw new IllegalArgumentException("자신이 작성한 댓글에는 좋아요를 남길 수 없습니다.");
+        }
+    }
 }
@@ -0,0 +1,341 @@
+package com.sparta.igeomubwotna.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+// 좋아요/좋아요 해제 요청을 큐에 모았다가 백그라운드에서 묶어서 저장 (write-behind)
+// 배치 하나당 트랜잭션 하나로 좋아요 행 추가/삭제와 좋아요 수 증감을 함께 반영
+// 배치가 실패하면 요청을 하나씩 따로 저장하고 (한 건 때문에 나머지가 버려지지 않도록), 그래도 실패하면 간격을 늘려가며 max-attempts 번까지 재시도
+// 좋아요 여부 캐시(LikeLookupService)는 접수 시점이 아니라 커밋된 결과로 갱신
+@Slf4j(topic = "좋아요 비동기 저장")
+@Component
+public class LikeWriteBehindQueue {
+
+    public enum Target { RECIPE, COMMENT }
+
+    // liked : true 면 좋아요, false 면 좋아요 해제
+    public record LikeEvent(Target target, Long targetId, Long userId, boolean liked) {
+    }
+
+    // changed : 요청마다 실제로 행이 추가/삭제되었는지, likedAt : 해제된 레시피 좋아요를 누른 시각 (인기 급상승 점수에서 빼기 위해)
+    private record Saved(Map<LikeEvent, Boolean> changed, Map<LikeEvent, LocalDateTime> likedAt) {
+    }
+
+    // 대상이 존재하고 작성자가 아닐 때만 추가 (검증과 추가를 한 문장으로)
+    // INSERT ... SELECT 는 multi-row VALUES 로 합쳐지지 않으므로 배치에서도 행마다 영향받은 행 수를 받을 수 있음
+    private static final String RECIPE_LIKE_SQL =
+            "insert ignore into recipe_likes (user_id, recipe_id, created_at, modified_at) " +
+            "select ?, r.id, now(6), now(6) from recipe r where r.id = ? and r.user_id <> ? and r.deleted = false";
+    private static final String RECIPE_UNLIKE_SQL =
+            "delete from recipe_likes where user_id = ? and recipe_id = ?";
+    private static final String COMMENT_LIKE_SQL =
+            "insert ignore into comment_likes (user_id, comment_id, created_at, modified_at) " +
+            "select ?, c.id, now(6), now(6) from comment c where c.id = ? and c.user_id <> ?";
+    private static final String COMMENT_UNLIKE_SQL =
+            "delete from comment_likes where user_id = ? and comment_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final RecipeResponseCache recipeResponseCache;
+    private final TrendingRecipeTracker trendingRecipeTracker;
+    private final LikeLookupService likeLookupService;
+    private final boolean enabled;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final long retryBackoffMillis;
+    private final BlockingQueue<LikeEvent> queue;
+
+    private final Counter accepted;
+    private final Counter rejected;
+    private final Counter retried;
+    private final Counter failed;
+
+    private volatile boolean running;
+    private Thread writer;
+
+    public LikeWriteBehindQueue(JdbcTemplate jdbcTemplate,
+                                TransactionTemplate transactionTemplate,
+                                RecipeResponseCache recipeResponseCache,
+                                TrendingRecipeTracker trendingRecipeTracker,
+                                LikeLookupService likeLookupService,
+                                MeterRegistry meterRegistry,
+                                @Value("${like.async.enabled:false}") boolean enabled,
+                                @Value("${like.async.queue-capacity:10000}") int queueCapacity,
+                                @Value("${like.async.batch-size:500}") int batchSize,
+                                @Value("${like.async.max-attempts:3}") int maxAttempts,
+                                @Value("${like.async.retry-backoff-millis:100}") long retryBackoffMillis) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.recipeResponseCache = recipeResponseCache;
+        this.trendingRecipeTracker = trendingRecipeTracker;
+        this.likeLookupService = likeLookupService;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.retryBackoffMillis = retryBackoffMillis;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+
+        Gauge.builder("like.async.queue.size", queue, BlockingQueue::size)
+                .description("저장을 기다리는 좋아요 요청 수")
+                .register(meterRegistry);
+        this.accepted = Counter.builder("like.async.events").tag("result", "accepted").register(meterRegistry);
+        this.rejected = Counter.builder("like.async.events").tag("result", "rejected").register(meterRegistry);
+        this.retried = Counter.builder("like.async.events").tag("result", "retried").register(meterRegistry);
+        this.failed = Counter.builder("like.async.events").tag("result", "failed").register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        running = true;
+        writer = new Thread(this::runWriter, "like-writer");
+        writer.start();
+    }
+
+    // 큐가 가득 차면 false (호출한 쪽에서 동기 방식으로 처리)
+    public boolean offer(LikeEvent event) {
+        if (!running || !queue.offer(event)) {
+            rejected.increment();
+            return false;
+        }
+        accepted.increment();
+        return true;
+    }
+
+    private void runWriter() {
+        List<LikeEvent> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                LikeEvent first = queue.poll(200, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                write(batch);
+            } catch (InterruptedException e) {
+                // 종료 요청 : 남은 요청은 stop() 에서 처리
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    // 종료 시 큐에 남은 요청을 모두 저장
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        if (!running) {
+            return;
+        }
+        running = false;
+        writer.join(TimeUnit.SECONDS.toMillis(10));
+        if (writer.isAlive()) {
+            writer.interrupt();
+            writer.join();
+        }
+
+        List<LikeEvent> remaining = new ArrayList<>();
+        while (queue.drainTo(remaining, batchSize) > 0) {
+            write(remaining);
+            remaining.clear();
+        }
+    }
+
+    void write(List<LikeEvent> batch) {
+        // 같은 사용자가 같은 대상에 여러 번 요청했다면 마지막 요청만 반영 (PUT/DELETE 는 멱등이므로 결과가 같음)
+        Map<LikeEvent, LikeEvent> latest = new LinkedHashMap<>();
+        for (LikeEvent event : batch) {
+            LikeEvent key = new LikeEvent(event.target(), event.targetId(), event.userId(), true);
+            latest.remove(key);
+            latest.put(key, event);
+        }
+        List<LikeEvent> events = new ArrayList<>(latest.values());
+
+        try {
+            afterSave(save(events));
+            return;
+        } catch (RuntimeException e) {
+            log.warn("좋아요 {}건 일괄 저장 실패, 한 건씩 다시 저장: {}", events.size(), e.getMessage());
+        }
+
+        for (LikeEvent event : events) {
+            retried.increment();
+            saveWithRetry(event);
+        }
+    }
+
+    // 실패하면 retry-backoff-millis 부터 두 배씩 기다렸다가 다시 시도, max-attempts 번 모두 실패하면 버림
+    private void saveWithRetry(LikeEvent event) {
+        long backoff = retryBackoffMillis;
+        for (int attempt = 1; ; attempt++) {
+            try {
+                afterSave(save(List.of(event)));
+                return;
+            } catch (RuntimeException e) {
+                if (attempt >= maxAttempts) {
+                    failed.increment();
+                    log.error("좋아요 저장 실패 ({}회 시도) {}: {}", attempt, event, e.getMessage());
+                    return;
+                }
+            }
+            backoff(backoff);
+            backoff *= 2;
+        }
+    }
+
+    private void backoff(long millis) {
+        if (millis <= 0 || Thread.currentThread().isInterrupted()) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            // 종료 중 : 남은 시도는 기다리지 않고 바로 실행
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // 한 트랜잭션으로 저장하고, 요청마다 실제로 행이 추가/삭제되었는지 반환
+    private Saved save(List<LikeEvent> events) {
+        return transactionTemplate.execute(status -> {
+            Map<LikeEvent, Boolean> changed = new LinkedHashMap<>();
+            Map<Long, Long> recipeDeltas = new HashMap<>();
+            Map<Long, Long> commentDeltas = new HashMap<>();
+
+            List<LikeEvent> recipeEvents = new ArrayList<>();
+            List<LikeEvent> commentEvents = new ArrayList<>();
+            for (LikeEvent event : events) {
+                (event.target() == Target.RECIPE ? recipeEvents : commentEvents).add(event);
+            }
+
+            Map<LikeEvent, LocalDateTime> likedAt = findLikedAt(recipeEvents.stream().filter(event -> !event.liked()).toList());
+            apply(recipeEvents, RECIPE_LIKE_SQL, RECIPE_UNLIKE_SQL, recipeDeltas, changed);
+            apply(commentEvents, COMMENT_LIKE_SQL, COMMENT_UNLIKE_SQL, commentDeltas, changed);
+
+            updateCounts(LikeCountAccumulator.RECIPE_UPDATE_SQL, recipeDeltas);
+            updateCounts(LikeCountAccumulator.COMMENT_UPDATE_SQL, commentDeltas);
+            return new Saved(changed, likedAt);
+        });
+    }
+
+    // 삭제하기 전에 좋아요를 누른 시각을 한 번에 조회 (키는 해제 요청과 같은 LikeEvent)
+    private Map<LikeEvent, LocalDateTime> findLikedAt(List<LikeEvent> unlikes) {
+        Map<LikeEvent, LocalDateTime> likedAt = new HashMap<>();
+        if (unlikes.isEmpty()) {
+            return likedAt;
+        }
+        String sql = "select user_id, recipe_id, created_at from recipe_likes where (user_id, recipe_id) in (" +
+                String.join(", ", Collections.nCopies(unlikes.size(), "(?, ?)")) + ")";
+        Object[] args = unlikes.stream().flatMap(event -> Stream.of(event.userId(), event.targetId())).toArray();
+        jdbcTemplate.query(sql, rs -> {
+            likedAt.put(new LikeEvent(Target.RECIPE, rs.getLong("recipe_id"), rs.getLong("user_id"), false),
+                    rs.getTimestamp("created_at").toLocalDateTime());
+        }, args);
+        return likedAt;
+    }
+
+    // 커밋 후 : 좋아요 수가 바뀐 레시피의 캐시된 응답 제거, 인기 급상승 점수와 좋아요 여부 캐시 반영
+    private void afterSave(Saved saved) {
+        Map<Long, Long> recipeLikes = new HashMap<>();
+        List<Long> changedRecipes = new ArrayList<>();
+        saved.changed().forEach((event, rowChanged) -> {
+            if (rowChanged && event.target() == Target.RECIPE) {
+                changedRecipes.add(event.targetId());
+                if (event.liked()) {
+                    recipeLikes.merge(event.targetId(), 1L, Long::sum);
+                } else {
+                    trendingRecipeTracker.recipeUnliked(event.targetId(), saved.likedAt().get(event));
+                }
+            }
+            updateLookup(event, rowChanged);
+        });
+        recipeResponseCache.evictAll(new HashSet<>(changedRecipes));
+        recipeLikes.forEach(trendingRecipeTracker::recipeLiked);
+    }
+
+    // 해제는 항상 좋아요 없음, 추가된 좋아요는 좋아요 있음
+    // 추가되지 않은 좋아요는 이미 좋아요였는지, 대상이 없거나 작성자라서인지 알 수 없으므로 캐시에서 지워 다음 조회 때 DB에서 확인
+    private void updateLookup(LikeEvent event, boolean rowChanged) {
+        boolean recipe = event.target() == Target.RECIPE;
+        if (event.liked() && !rowChanged) {
+            if (recipe) {
+                likeLookupService.forgetRecipe(event.userId(), event.targetId());
+            } else {
+                likeLookupService.forgetComment(event.userId(), event.targetId());
+            }
+        } else if (recipe) {
+            likeLookupService.recipeLiked(event.userId(), event.targetId(), event.liked());
+        } else {
+            likeLookupService.commentLiked(event.userId(), event.targetId(), event.liked());
+        }
+    }
+
+    // 실제로 추가/삭제된 행만 좋아요 수 증감에 반영
+    private void apply(List<LikeEvent> events, String likeSql, String unlikeSql, Map<Long, Long> deltas,
+                       Map<LikeEvent, Boolean> changed) {
+        List<LikeEvent> likes = events.stream().filter(LikeEvent::liked).toList();
+        List<LikeEvent> unlikes = events.stream().filter(event -> !event.liked()).toList();
+
+        if (!likes.isEmpty()) {
+            int[] counts = jdbcTemplate.batchUpdate(likeSql,
+                    likes.stream().map(event -> new Object[]{event.userId(), event.targetId(), event.userId()}).toList());
+            collect(likes, counts, 1L, deltas, changed);
+        }
+        if (!unlikes.isEmpty()) {
+            int[] counts = jdbcTemplate.batchUpdate(unlikeSql,
+                    unlikes.stream().map(event -> new Object[]{event.userId(), event.targetId()}).toList());
+            collect(unlikes, counts, -1L, deltas, changed);
+        }
+    }
+
+    private void collect(List<LikeEvent> events, int[] counts, long delta, Map<Long, Long> deltas,
+                         Map<LikeEvent, Boolean> changed) {
+        for (int i = 0; i < counts.length; i++) {
+            changed.put(events.get(i), counts[i] > 0);
+            if (counts[i] > 0) {
+                deltas.merge(events.get(i).targetId(), delta, Long::sum);
+            }
+        }
+    }
+
+    private void updateCounts(String sql, Map<Long, Long> deltas) {
+        List<Object[]> args = new ArrayList<>();
+        deltas.forEach((id, delta) -> {
+            if (delta != 0) {
+                args.add(new Object[]{delta, id});
+            }
+        });
+        if (!args.isEmpty()) {
+            jdbcTemplate.batchUpdate(sql, args);
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.sparta.igeomubwotna.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// recipe.comment_count 를 comment 테이블 기준으로 다시 셈
+// 댓글 작성/삭제는 바로 증감하지만 탈퇴 회원 삭제처럼 SQL로 댓글을 지우는 경우, 증감과 재계산이 겹쳐 생긴 차이,
+// 컬럼 추가 전의 기존 레시피를 맞추기 위해 실행
+// id 구간(chunk-size)마다 따로 커밋해서 잠금을 짧게 유지
+@Slf4j(topic = "댓글 수 재계산")
+@Component
+public class RecipeCommentCountReconciler {
+
+    private static final String RECONCILE_SQL =
+            "update recipe r set r.comment_count = (select count(*) from comment c where c.recipe_id = r.id) " +
+            "where r.id between ? and ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int chunkSize;
+    // 스케줄러 스레드(좋아요 수 반영 등과 공유)를 오래 붙잡지 않도록 별도 스레드에서 실행 (UserPurgeService 와 같음)
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(task -> new Thread(task, "comment-count"));
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public RecipeCommentCountReconciler(JdbcTemplate jdbcTemplate,
+                                        @Value("${recipe.comment-count.chunk-size:1000}") int chunkSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.chunkSize = chunkSize;
+    }
+
+    // 시작 직후 한 번, 이후 하루 한 번 (이전 실행이 아직 진행 중이면 건너뜀)
+    @Scheduled(initialDelayString = "${recipe.comment-count.initial-delay-millis:60000}",
+            fixedDelayString = "${recipe.comment-count.interval-millis:86400000}")
+    public void schedule() {
+        if (!running.compareAndSet(false, true)) {
+            return;
+        }
+        executor.execute(() -> {
+            try {
+                reconcile();
+            } catch (RuntimeException e) {
+                log.error("comment count reconcile failed: {}", e.getMessage());
+            } finally {
+                running.set(false);
+            }
+        });
+    }
+
+    // 다시 센 레시피 수 반환
+    public int reconcile() {
+        Long maxId = jdbcTemplate.queryForObject("select max(id) from recipe", Long.class);
+        if (maxId == null) {
+            return 0;
+        }
+        int updated = 0;
+        for (long from = 1; from <= maxId; from += chunkSize) {
+            if (Thread.currentThread().isInterrupted()) {
+                break;
+            }
+            updated += jdbcTemplate.update(RECONCILE_SQL, from, from + chunkSize - 1);
+        }
+        log.info("comment counts reconciled: {} recipes updated", updated);
+        return updated;
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        executor.shutdownNow();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+    }
+}
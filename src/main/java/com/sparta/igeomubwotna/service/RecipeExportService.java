@@ -0,0 +1,160 @@
+package com.sparta.igeomubwotna.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sparta.igeomubwotna.entity.User;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import javax.sql.DataSource;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.zip.GZIPOutputStream;
+
+// 레시피 전체 내보내기 (운영, 분석용)
+// 엔티티나 Page 로 읽지 않고 JDBC 커서로 한 행씩 읽어서 바로 응답 스트림에 씀 (행 수와 관계없이 메모리 사용량 일정, COUNT 쿼리 없음)
+@Service
+public class RecipeExportService {
+
+    public enum Format {
+        NDJSON, CSV
+    }
+
+    private static final String CSV_HEADER = "id,author_id,author_user_id,title,content,likes,created_at,modified_at";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final LikeCountAccumulator likeCountAccumulator;
+    // 내보내기를 요청할 수 있는 사용자 아이디 (관리자 권한이 따로 없으므로 설정으로 지정)
+    private final Set<String> adminUserIds;
+
+    public RecipeExportService(DataSource dataSource,
+                               ObjectMapper objectMapper,
+                               LikeCountAccumulator likeCountAccumulator,
+                               @Value("${recipe.export.admin-user-ids:}") Set<String> adminUserIds) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        // MySQL 드라이버는 fetch size 가 Integer.MIN_VALUE 일 때만 결과를 한 번에 받지 않고 한 행씩 스트리밍
+        this.jdbcTemplate.setFetchSize(Integer.MIN_VALUE);
+        this.objectMapper = objectMapper;
+        this.likeCountAccumulator = likeCountAccumulator;
+        this.adminUserIds = adminUserIds;
+    }
+
+    public void checkAdmin(User user) {
+        if (!adminUserIds.contains(user.getUserId())) {
+            throw new ResponseStatusException(HttpStatus.FORBIDDEN, "관리자만 접근할 수 있습니다.");
+        }
+    }
+
+    // startDateTime, endDateTime 이 null 이면 전체 (작성일 기준 필터, 삭제 요청된 레시피 제외)
+    public void export(Format format, LocalDateTime startDateTime, LocalDateTime endDateTime,
+                       boolean gzip, OutputStream out) throws IOException {
+        StringBuilder sql = new StringBuilder(
+                "select r.id, r.user_id, u.user_id as author_user_id, r.title, r.content, r.recipe_likes, " +
+                        "r.created_at, r.modified_at from recipe r join users u on u.id = r.user_id where r.deleted = false");
+        List<Object> args = new ArrayList<>();
+        if (startDateTime != null) {
+            sql.append(" and r.created_at >= ?");
+            args.add(startDateTime);
+        }
+        if (endDateTime != null) {
+            sql.append(" and r.created_at <= ?");
+            args.add(endDateTime);
+        }
+        // 기본 키 순서로 읽으므로 정렬용 임시 테이블이 필요 없음
+        sql.append(" order by r.id");
+
+        OutputStream target = gzip ? new GZIPOutputStream(out, 64 * 1024) : out;
+        Writer writer = new BufferedWriter(new OutputStreamWriter(target, StandardCharsets.UTF_8), 64 * 1024);
+        if (format == Format.CSV) {
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+        }
+
+        try {
+            jdbcTemplate.query(sql.toString(), rs -> {
+                try {
+                    writeRow(format, rs, writer);
+                } catch (IOException e) {
+                    // 클라이언트가 연결을 끊은 경우 등 : 조회를 중단
+                    throw new UncheckedIOException(e);
+                }
+            }, args.toArray());
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+
+        writer.flush();
+        if (gzip) {
+            ((GZIPOutputStream) target).finish();
+        }
+    }
+
+    private void writeRow(Format format, ResultSet rs, Writer writer) throws SQLException, IOException {
+        long id = rs.getLong("id");
+        ExportRow row = new ExportRow(
+                id,
+                rs.getLong("user_id"),
+                rs.getString("author_user_id"),
+                rs.getString("title"),
+                rs.getString("content"),
+                // 아직 DB에 반영되지 않은 좋아요 증감까지 포함
+                rs.getLong("recipe_likes") + likeCountAccumulator.getPendingRecipeLikes(id),
+                toLocalDateTime(rs.getTimestamp("created_at")),
+                toLocalDateTime(rs.getTimestamp("modified_at")));
+
+        if (format == Format.CSV) {
+            writer.write(String.join(",",
+                    String.valueOf(row.id()),
+                    String.valueOf(row.authorId()),
+                    csv(row.authorUserId()),
+                    csv(row.title()),
+                    csv(row.content()),
+                    String.valueOf(row.likes()),
+                    formatDateTime(row.createdAt()),
+                    formatDateTime(row.modifiedAt())));
+        } else {
+            writer.write(objectMapper.writeValueAsString(row));
+        }
+        writer.write('\n');
+    }
+
+    // NDJSON(Jackson) 과 같은 형식
+    private static String formatDateTime(LocalDateTime dateTime) {
+        return dateTime == null ? "" : DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(dateTime);
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp == null ? null : timestamp.toLocalDateTime();
+    }
+
+    // 쉼표, 따옴표, 줄바꿈이 있으면 따옴표로 감싸고 따옴표는 두 번 씀 (RFC 4180)
+    static String csv(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.contains(",") || value.contains("\"") || value.contains("\n") || value.contains("\r")) {
+            return "\"" + value.replace("\"", "\"\"") + "\"";
+        }
+        return value;
+    }
+
+    record ExportRow(Long id, Long authorId, String authorUserId, String title, String content, long likes,
+                     LocalDateTime createdAt, LocalDateTime modifiedAt) {
+    }
+}
@@ -0,0 +1,152 @@
+package com.sparta.igeomubwotna.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.sparta.igeomubwotna.dto.RecipeImportResultDto;
+import com.sparta.igeomubwotna.dto.RecipeImportResultDto.LineResult;
+import com.sparta.igeomubwotna.dto.RecipeRequestDto;
+import com.sparta.igeomubwotna.entity.Recipe;
+import com.sparta.igeomubwotna.entity.User;
+import com.sparta.igeomubwotna.search.RecipeSearchIndex;
+import com.sparta.igeomubwotna.search.RecipeTitleSuggester;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+// NDJSON(한 줄에 RecipeRequestDto 하나) 레시피 일괄 등록
+// 본문을 한 줄씩 읽어서 batch-size 개씩 한 트랜잭션으로 저장 (본문 전체나 저장한 엔티티를 메모리에 쌓아 두지 않음)
+// 저장된 배치는 이후 배치가 실패해도 유지되고, 실패한 줄은 결과에 사유를 남김
+@Slf4j(topic = "레시피 일괄 등록")
+@Service
+public class RecipeImportService {
+
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectReader recipeReader;
+    private final Validator validator;
+    private final RecipeLookupCache recipeLookupCache;
+    private final RecipeSearchIndex recipeSearchIndex;
+    private final RecipeTitleSuggester recipeTitleSuggester;
+    private final int batchSize;
+
+    public RecipeImportService(EntityManager entityManager,
+                               TransactionTemplate transactionTemplate,
+                               ObjectMapper objectMapper,
+                               Validator validator,
+                               RecipeLookupCache recipeLookupCache,
+                               RecipeSearchIndex recipeSearchIndex,
+                               RecipeTitleSuggester recipeTitleSuggester,
+                               @Value("${recipe.import.batch-size:500}") int batchSize) {
+        this.entityManager = entityManager;
+        this.transactionTemplate = transactionTemplate;
+        this.recipeReader = objectMapper.readerFor(RecipeRequestDto.class);
+        this.validator = validator;
+        this.recipeLookupCache = recipeLookupCache;
+        this.recipeSearchIndex = recipeSearchIndex;
+        this.recipeTitleSuggester = recipeTitleSuggester;
+        this.batchSize = batchSize;
+    }
+
+    public RecipeImportResultDto importRecipes(InputStream body, User user) throws IOException {
+        List<LineResult> results = new ArrayList<>();
+        List<PendingRecipe> batch = new ArrayList<>(batchSize);
+
+        BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+        String line;
+        int lineNumber = 0;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+
+            RecipeRequestDto requestDto;
+            try {
+                requestDto = recipeReader.readValue(line);
+            } catch (JsonProcessingException e) {
+                results.add(LineResult.failed(lineNumber, "JSON 형식이 올바르지 않습니다."));
+                continue;
+            }
+
+            String error = validate(requestDto);
+            if (error != null) {
+                results.add(LineResult.failed(lineNumber, error));
+                continue;
+            }
+
+            batch.add(new PendingRecipe(lineNumber, requestDto));
+            if (batch.size() == batchSize) {
+                results.addAll(save(batch, user));
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            results.addAll(save(batch, user));
+        }
+
+        // 실패한 줄은 바로, 저장된 줄은 배치가 끝난 뒤 추가되므로 줄 번호 순으로 정렬
+        results.sort(Comparator.comparingInt(LineResult::getLine));
+        int saved = (int) results.stream().filter(result -> result.getId() != null).count();
+        return new RecipeImportResultDto(results.size(), saved, results.size() - saved, results);
+    }
+
+    // 기존 단건 등록과 같은 제약(@NotBlank 등) 검사, 통과하면 null
+    private String validate(RecipeRequestDto requestDto) {
+        Set<ConstraintViolation<RecipeRequestDto>> violations = validator.validate(requestDto);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(violation -> violation.getPropertyPath() + " 필드 : " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining(", "));
+    }
+
+    // 한 배치를 한 트랜잭션으로 저장 (id 를 미리 할당받으므로 INSERT 가 JDBC 배치로 묶임)
+    // 저장 후 flush / clear 로 영속성 컨텍스트를 비워서 배치가 반복돼도 메모리가 늘지 않음
+    private List<LineResult> save(List<PendingRecipe> batch, User user) {
+        try {
+            return transactionTemplate.execute(status -> {
+                User author = entityManager.getReference(User.class, user.getId());
+                List<LineResult> saved = new ArrayList<>(batch.size());
+                for (PendingRecipe pending : batch) {
+                    Recipe recipe = new Recipe(pending.requestDto(), author);
+                    entityManager.persist(recipe);
+                    recipeSearchIndex.index(recipe.getId(), recipe.getTitle(), recipe.getContent());
+                    saved.add(LineResult.saved(pending.line(), recipe.getId()));
+                }
+                entityManager.flush();
+                entityManager.clear();
+                recipeLookupCache.clearMissing(saved.stream().map(LineResult::getId).toList());
+                recipeTitleSuggester.markDirty();
+                return saved;
+            });
+        } catch (RuntimeException e) {
+            // 배치 전체가 롤백되므로 배치의 모든 줄을 실패로 기록
+            log.error("레시피 일괄 등록 배치 저장 실패 (줄 {} ~ {}): {}",
+                    batch.get(0).line(), batch.get(batch.size() - 1).line(), e.getMessage());
+            return batch.stream()
+                    .map(pending -> LineResult.failed(pending.line(), "저장에 실패했습니다."))
+                    .toList();
+        }
+    }
+
+    private record PendingRecipe(int line, RecipeRequestDto requestDto) {
+    }
+}
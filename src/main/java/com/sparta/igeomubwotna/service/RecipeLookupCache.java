@@ -0,0 +1,17 @@
+package com.sparta.igeomubwotna.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+// 레시피 id -> 작성자 id (없는 레시피 id 포함)
+@Component
+public class RecipeLookupCache extends IdLookupCache {
+
+    public RecipeLookupCache(MeterRegistry meterRegistry,
+                             @Value("${cache.lookup.max-size:100000}") long maxSize,
+                             @Value("${cache.lookup.ttl-seconds:600}") long ttlSeconds,
+                             @Value("${cache.lookup.missing-ttl-seconds:5}") long missingTtlSeconds) {
+        super("recipeLookup", meterRegistry, maxSize, ttlSeconds, missingTtlSeconds);
+    }
+}
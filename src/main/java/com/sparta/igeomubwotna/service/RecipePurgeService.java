@@ -0,0 +1,119 @@
+package com.sparta.igeomubwotna.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+// 숨긴(삭제 요청된) 레시피와 딸린 데이터를 엔티티로 불러오지 않고 집합 단위 DELETE 로 삭제
+// FK 순서대로 댓글 좋아요 -> 댓글 -> 레시피 좋아요 -> 레시피, 각 문장은 chunk-size 행씩 따로 커밋해서 잠금을 짧게 유지
+// 트랜잭션 밖에서 호출해야 함 (트랜잭션 안이면 전체가 한 트랜잭션으로 묶임)
+@Slf4j(topic = "레시피 삭제")
+@Service
+public class RecipePurgeService {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final CommentLookupCache commentLookupCache;
+    private final int chunkSize;
+    // 비동기 삭제는 한 스레드에서 차례로 (동시에 여러 레시피를 지우며 DB 부하를 키우지 않도록)
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(task -> new Thread(task, "recipe-purge"));
+    // 삭제 중이거나 큐에 들어간 레시피 id (sweep 이 아직 끝나지 않은 삭제를 다시 큐에 넣지 않도록, 끝나면 제거)
+    private final Set<Long> inFlight = ConcurrentHashMap.newKeySet();
+
+    public RecipePurgeService(JdbcTemplate jdbcTemplate,
+                              CommentLookupCache commentLookupCache,
+                              @Value("${recipe.purge.chunk-size:1000}") int chunkSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.commentLookupCache = commentLookupCache;
+        this.chunkSize = chunkSize;
+    }
+
+    // 이번 호출에서 삭제했으면 true, 같은 레시피를 이미 삭제 중이면 (비동기 삭제, sweep) 건너뛰고 false
+    public boolean purge(Long recipeId) {
+        if (!inFlight.add(recipeId)) {
+            log.debug("recipe {} purge already in progress", recipeId);
+            return false;
+        }
+        try {
+            delete(recipeId);
+            return true;
+        } finally {
+            inFlight.remove(recipeId);
+        }
+    }
+
+    private void delete(Long recipeId) {
+        List<Long> commentIds;
+        while (!(commentIds = jdbcTemplate.queryForList(
+                "select id from comment where recipe_id = ? order by id limit ?", Long.class, recipeId, chunkSize)).isEmpty()) {
+            String in = String.join(", ", Collections.nCopies(commentIds.size(), "?"));
+            Object[] ids = commentIds.toArray();
+            // 댓글 하나에 좋아요가 많을 수 있으므로 좋아요도 chunk-size 행씩
+            deleteInChunks("delete from comment_likes where comment_id in (" + in + ") limit " + chunkSize, ids);
+            jdbcTemplate.update("delete from comment where id in (" + in + ")", ids);
+            commentIds.forEach(commentLookupCache::evict);
+        }
+        deleteInChunks("delete from recipe_likes where recipe_id = ? limit " + chunkSize, recipeId);
+        jdbcTemplate.update("delete from recipe where id = ? and deleted = true", recipeId);
+        log.info("recipe {} purged", recipeId);
+    }
+
+    public void purgeAsync(Long recipeId) {
+        if (!inFlight.add(recipeId)) {
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    purgeQuietly(recipeId);
+                } finally {
+                    inFlight.remove(recipeId);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // 종료 중 : 숨김 상태로 남으므로 재시작 후 sweep 에서 처리
+            inFlight.remove(recipeId);
+            throw e;
+        }
+    }
+
+    // 서버가 삭제 도중 종료되었거나 삭제에 실패해서 숨김 상태로 남은 레시피 정리 (삭제 중인 레시피는 purgeAsync 에서 건너뜀)
+    @Scheduled(fixedDelayString = "${recipe.purge.sweep-interval-millis:600000}")
+    public void sweep() {
+        jdbcTemplate.queryForList("select id from recipe where deleted = true", Long.class)
+                .forEach(this::purgeAsync);
+    }
+
+    private void purgeQuietly(Long recipeId) {
+        try {
+            delete(recipeId);
+        } catch (RuntimeException e) {
+            // 숨김 상태로 남으므로 다음 sweep 에서 다시 시도
+            log.error("recipe {} purge failed: {}", recipeId, e.getMessage());
+        }
+    }
+
+    private void deleteInChunks(String sql, Object... args) {
+        while (jdbcTemplate.update(sql, args) >= chunkSize) {
+            // 남은 행이 chunk-size 보다 적을 때까지 반복
+        }
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        // 진행 중인 삭제만 기다림, 남은 레시피는 재시작 후 sweep 에서 처리
+        executor.shutdownNow();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+    }
+}
@@ -0,0 +1,110 @@
+package com.sparta.igeomubwotna.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sparta.igeomubwotna.dto.RecipeResponseDto;
+import com.sparta.igeomubwotna.util.TransactionHooks;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Function;
+
+// 레시피 단건 조회 응답 캐시 (작성자까지 채운 RecipeResponseDto 를 보관)
+// 좋아요 수는 DB에 반영된 값만 보관하고, 아직 반영되지 않은 증감은 조회할 때 더함
+@Slf4j(topic = "레시피 캐시")
+@Component
+public class RecipeResponseCache {
+
+    // 문자열 외 필드와 객체 헤더 크기 (대략)
+    private static final int BASE_WEIGHT = 128;
+    // 제거 횟수를 세는 구간 수 (id 를 나눠 담아서 다른 레시피의 제거와는 거의 겹치지 않음)
+    private static final int GENERATION_STRIPES = 64;
+
+    private final Cache<Long, RecipeResponseDto> cache;
+    // 구간별 제거 횟수 : 조회 전후로 값이 바뀌었다면 조회 중에 제거 요청이 있었던 것
+    private final AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES);
+
+    public RecipeResponseCache(MeterRegistry meterRegistry,
+                               @Value("${cache.recipe.max-bytes:67108864}") long maxBytes,
+                               @Value("${cache.recipe.ttl-seconds:300}") long ttlSeconds) {
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxBytes) // 최대 메모리 (대략, 바이트)
+                .weigher((Long recipeId, RecipeResponseDto recipe) -> weigh(recipe))
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds)) // TTL
+                .recordStats() // hit / miss / eviction / load 시간 통계 수집
+                .build();
+
+        // cache.gets, cache.evictions, cache.load.duration 등을 /actuator/metrics 로 노출
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "recipe");
+        Gauge.builder("cache.hit.ratio", cache, c -> c.stats().hitRate())
+                .tag("cache", "recipe")
+                .register(meterRegistry);
+    }
+
+    private static int weigh(RecipeResponseDto recipe) {
+        long chars = length(recipe.getTitle()) + length(recipe.getContent()) + length(recipe.getUserId());
+        return (int) Math.min(Integer.MAX_VALUE, BASE_WEIGHT + chars * 2);
+    }
+
+    private static long length(String value) {
+        return value == null ? 0 : value.length();
+    }
+
+    // 캐시에서 찾고, 없으면 loader 로 한 번만 조회하여 저장 (loader 의 예외는 그대로 전달되고 캐시하지 않음)
+    // 좋아요 수 반영 전에 행을 읽은 조회가 제거(evictAll) 뒤에 저장될 수 있으므로
+    // 조회하는 동안 같은 구간에 제거가 있었다면 이번 값은 응답에만 쓰고 캐시에서 지움
+    public RecipeResponseDto get(Long recipeId, Function<Long, RecipeResponseDto> loader) {
+        long generation = generations.get(stripe(recipeId));
+        boolean[] loaded = {false};
+        RecipeResponseDto recipe = cache.get(recipeId, id -> {
+            loaded[0] = true;
+            return loader.apply(id);
+        });
+        if (loaded[0] && generations.get(stripe(recipeId)) != generation) {
+            cache.asMap().remove(recipeId, recipe);
+        }
+        return recipe;
+    }
+
+    // 캐시에 있을 때만 반환 (없으면 null, DB 조회 없음, hit / miss 통계에 포함하지 않음)
+    public RecipeResponseDto getIfPresent(Long recipeId) {
+        return cache.asMap().get(recipeId);
+    }
+
+    // 수정, 삭제, 좋아요 수 반영 등 레시피 응답이 바뀌면 호출
+    public void evict(Long recipeId) {
+        // 트랜잭션 안이라면 커밋 전에 다른 요청이 이전 값을 다시 캐시할 수 있으므로 커밋 후 한 번 더 제거
+        TransactionHooks.nowAndAfterCommit(() -> invalidate(recipeId));
+        log.debug("evict recipe: {}", recipeId);
+    }
+
+    // 좋아요 수가 일괄 반영된 레시피들 (커밋 후 호출)
+    public void evictAll(Collection<Long> recipeIds) {
+        recipeIds.forEach(this::invalidate);
+    }
+
+    // 조회 중인 get 이 알 수 있도록 제거 횟수를 먼저 올림 (제거 후에 올리면 그 사이에 저장된 이전 값을 놓침)
+    private void invalidate(Long recipeId) {
+        generations.incrementAndGet(stripe(recipeId));
+        cache.invalidate(recipeId);
+    }
+
+    private static int stripe(Long recipeId) {
+        return (Long.hashCode(recipeId) & Integer.MAX_VALUE) % GENERATION_STRIPES;
+    }
+
+    public long getHitCount() {
+        return cache.stats().hitCount();
+    }
+
+    public long getMissCount() {
+        return cache.stats().missCount();
+    }
+}
@@ -1,13 +1,22 @@
 package com.sparta.igeomubwotna.service;
 
 
+import com.sparta.igeomubwotna.dto.CursorResponseDto;
+import com.sparta.igeomubwotna.dto.EntityVersion;
 import com.sparta.igeomubwotna.dto.RecipeRequestDto;
 import com.sparta.igeomubwotna.dto.RecipeResponseDto;
 import com.sparta.igeomubwotna.entity.Recipe;
 import com.sparta.igeomubwotna.entity.User;
 import com.sparta.igeomubwotna.repository.RecipeRepository;
+import com.sparta.igeomubwotna.repository.RecipeSort;
+import com.sparta.igeomubwotna.search.RecipeSearchIndex;
+import com.sparta.igeomubwotna.search.RecipeSearchIndex.SearchResult;
+import com.sparta.igeomubwotna.search.RecipeTitleSuggester;
+import com.sparta.igeomubwotna.util.ETags;
+import com.sparta.igeomubwotna.util.PageCursor;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
@@ -19,24 +28,69 @@ import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @RequiredArgsConstructor
 @Service
 public class RecipeService {
 
+    private static final int FEED_SIZE = 10;
+    // 검색 결과는 순위 계산 비용이 커지지 않도록 앞쪽 페이지만 제공
+    private static final int MAX_SEARCH_PAGE = 100;
+    private static final int MAX_SUGGESTIONS = 10;
+    private static final int MAX_TRENDING = 50;
+
     private final RecipeRepository recipeRepository;
+    private final LikeCountAccumulator likeCountAccumulator;
+    private final LikeLookupService likeLookupService;
+    private final RecipeResponseCache recipeResponseCache;
+    private final RecipeLookupCache recipeLookupCache;
+    private final RecipePurgeService recipePurgeService;
+    private final RecipeSearchIndex recipeSearchIndex;
+    private final RecipeTitleSuggester recipeTitleSuggester;
+    private final TrendingRecipeTracker trendingRecipeTracker;
 
     @Transactional
     public ResponseEntity saveRecipe(RecipeRequestDto requestDto, User user) {
         Recipe recipe = recipeRepository.save(new Recipe(requestDto, user));
+        recipeLookupCache.clearMissing(List.of(recipe.getId()));
+        recipeSearchIndex.index(recipe.getId(), recipe.getTitle(), recipe.getContent());
+        recipeTitleSuggester.markDirty();
 
-        return ResponseEntity.status(HttpStatus.CREATED).body(new RecipeResponseDto(recipe));
+        return ResponseEntity.status(HttpStatus.CREATED).body(toDto(recipe));
     }
 
+    // 캐시에는 DB에 반영된 좋아요 수까지만 보관하고, 아직 반영되지 않은 증감은 매번 더함
     public ResponseEntity getRecipe(Long recipeId) {
-        Recipe recipe = findById(recipeId);
+        RecipeResponseDto recipe = recipeResponseCache.get(recipeId, id -> new RecipeResponseDto(findById(id)));
 
-        return ResponseEntity.status(HttpStatus.OK).body(new RecipeResponseDto(recipe));
+        return ResponseEntity.status(HttpStatus.OK).body(
+                recipe.withPendingLikes(likeCountAccumulator.getPendingRecipeLikes(recipeId)));
+    }
+
+    // 조건부 GET 용 ETag (수정 시각과 좋아요 수만 사용, 엔티티와 작성자는 불러오지 않음)
+    // 캐시된 응답이 있으면 DB 조회 없음, 없는 레시피면 null
+    public String getRecipeETag(Long recipeId) {
+        if (recipeLookupCache.isMissing(recipeId)) {
+            return null;
+        }
+        long pendingLikes = likeCountAccumulator.getPendingRecipeLikes(recipeId);
+
+        RecipeResponseDto cached = recipeResponseCache.getIfPresent(recipeId);
+        if (cached != null) {
+            return ETags.weak(recipeId, cached.getModifiedAt(), cached.getRecipeLikes(), pendingLikes);
+        }
+
+        EntityVersion version = recipeRepository.findVersionById(recipeId);
+        if (version.count() == 0) {
+            return null;
+        }
+        return ETags.weak(recipeId, version.lastModifiedAt(), version.likes(), pendingLikes);
     }
 
     @Transactional
@@ -44,30 +98,176 @@ public class RecipeService {
         Recipe recipe = findById(recipeId);
         checkUserSame(recipe, user);
         recipe.update(requestDto);
+        recipeResponseCache.evict(recipeId);
+        recipeSearchIndex.index(recipeId, recipe.getTitle(), recipe.getContent());
+        recipeTitleSuggester.markDirty();
 
-        return ResponseEntity.status(HttpStatus.OK).body(new RecipeResponseDto(recipe));
+        return ResponseEntity.status(HttpStatus.OK).body(toDto(recipe));
 
     }
 
-    @Transactional
+    // 댓글 작성/삭제 시 CommentService 가 호출
+    public void addCommentCount(Long recipeId, long delta) {
+        recipeRepository.addCommentCount(recipeId, delta);
+    }
+
     public ResponseEntity deleteRecipe(Long recipeId, User user) {
+        return deleteRecipe(recipeId, user, false);
+    }
+
+    // 먼저 숨긴 뒤 (바로 조회에서 제외) 댓글, 좋아요와 레시피를 나눠서 삭제
+    // async 면 삭제는 백그라운드에서 하고 바로 202 응답
+    // 트랜잭션을 걸지 않음 : 삭제 문장마다 따로 커밋해야 잠금이 짧음
+    public ResponseEntity deleteRecipe(Long recipeId, User user, boolean async) {
         Recipe recipe = findById(recipeId);
         checkUserSame(recipe, user);
-        recipeRepository.delete(recipe);
+        recipeRepository.hideById(recipeId);
+        recipeResponseCache.evict(recipeId);
+        recipeLookupCache.markMissing(recipeId);
+        recipeSearchIndex.remove(recipeId);
+        recipeTitleSuggester.markDirty();
+        trendingRecipeTracker.remove(recipeId);
 
+        if (async) {
+            recipePurgeService.purgeAsync(recipeId);
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body((recipeId + " 번 삭제 요청이 접수되었습니다."));
+        }
+        // 다른 스레드(sweep 등)에서 이미 삭제 중이면 이번 호출에서는 지우지 않았으므로 202
+        if (!recipePurgeService.purge(recipeId)) {
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body((recipeId + " 번 삭제가 진행 중입니다."));
+        }
         return ResponseEntity.status(HttpStatus.OK).body((recipeId + " 번 삭제 완료"));
     }
 
+    // 제목, 내용 검색 (BM25 순위, 페이지당 10개)
+    public ResponseEntity searchRecipes(String query, int page, User viewer) {
+        if (query == null || query.isBlank()) {
+            throw new IllegalArgumentException("검색어를 입력해주세요.");
+        }
+        if (page < 0 || page >= MAX_SEARCH_PAGE) {
+            throw new IllegalArgumentException("검색 결과는 " + MAX_SEARCH_PAGE + " 페이지까지 조회할 수 있습니다.");
+        }
+        SearchResult result = recipeSearchIndex.search(query, page * FEED_SIZE, FEED_SIZE);
+
+        // 색인 순위대로 정렬 (한 쿼리로 작성자까지 조회)
+        Map<Long, Recipe> recipes = result.recipeIds().isEmpty() ? Map.of()
+                : recipeRepository.findAllWithUserByIdIn(result.recipeIds()).stream()
+                .collect(Collectors.toMap(Recipe::getId, Function.identity()));
+        List<RecipeResponseDto> content = result.recipeIds().stream()
+                .map(recipes::get)
+                .filter(Objects::nonNull)
+                .map(this::toDto)
+                .toList();
+        markLiked(content, viewer);
+        return ResponseEntity.status(HttpStatus.OK).body(
+                new PageImpl<>(content, PageRequest.of(page, FEED_SIZE), result.total()));
+    }
+
+    // 제목 자동완성 (입력 중인 접두어, 좋아요 수가 많은 제목 먼저)
+    public ResponseEntity suggestTitles(String prefix, int size) {
+        if (size < 1 || size > MAX_SUGGESTIONS) {
+            throw new IllegalArgumentException("자동완성은 1 ~ " + MAX_SUGGESTIONS + "개까지 조회할 수 있습니다.");
+        }
+        return ResponseEntity.status(HttpStatus.OK).body(recipeTitleSuggester.suggest(prefix, size));
+    }
+
+    // 인기 급상승 레시피 (최근 좋아요, 댓글 기준 점수 순, 메모리에서만 조회)
+    public ResponseEntity getTrending(String window, int size) {
+        if (size < 1 || size > MAX_TRENDING) {
+            throw new IllegalArgumentException("인기 급상승 레시피는 1 ~ " + MAX_TRENDING + "개까지 조회할 수 있습니다.");
+        }
+        return ResponseEntity.status(HttpStatus.OK).body(
+                trendingRecipeTracker.getTrending(TrendingRecipeTracker.Window.from(window), size));
+    }
+
     public ResponseEntity getAllRecipe(int page, String sortBy) {
-        Sort sort = Sort.by(Sort.Direction.DESC, sortBy);
-        Pageable pageable = PageRequest.of(page, 10, sort);
+        return getAllRecipe(page, sortBy, null);
+    }
+
+    // viewer : 로그인 사용자 (있으면 likedByMe 를 채움)
+    // 정렬은 인덱스가 있는 RecipeSort 만 허용 (임의 컬럼 정렬은 전체 행 filesort)
+    public ResponseEntity getAllRecipe(int page, String sortBy, User viewer) {
+        Pageable pageable = PageRequest.of(page, 10, RecipeSort.from(sortBy).toSort());
         Page<Recipe> recipeList = recipeRepository.findAll(pageable);
 
         if (recipeList.getTotalElements() == 0) {
             return ResponseEntity.status(HttpStatus.OK).body("먼저 작성하여 소식을 알려보세요!");
         }
 
-        return ResponseEntity.status(HttpStatus.OK).body(recipeList.map(RecipeResponseDto::new));
+        Page<RecipeResponseDto> content = recipeList.map(this::toDto);
+        markLiked(content.getContent(), viewer);
+        return ResponseEntity.status(HttpStatus.OK).body(content);
+    }
+
+    public ResponseEntity getRecipeFeed(String sortBy, String cursor) {
+        return getRecipeFeed(sortBy, cursor, null);
+    }
+
+    // 커서 기반 피드: OFFSET 스캔과 COUNT 쿼리 없이 (정렬 값, id) 이후의 행만 조회
+    public ResponseEntity getRecipeFeed(String sortBy, String cursor, User viewer) {
+        // 다음 페이지 존재 여부를 알기 위해 한 건 더 조회
+        Pageable limit = PageRequest.of(0, FEED_SIZE + 1);
+        RecipeSort sort = RecipeSort.from(sortBy);
+        // 커서의 정렬 기준은 필드 이름 (newest 와 createdAt 으로 받은 커서가 서로 호환)
+        String sortKey = sort.getProperty();
+        List<Recipe> recipes;
+
+        switch (sort) {
+            case NEWEST -> {
+                if (cursor == null) {
+                    recipes = recipeRepository.findFeedOrderByCreatedAt(limit);
+                } else {
+                    PageCursor pageCursor = PageCursor.decode(cursor, sortKey);
+                    recipes = recipeRepository.findFeedOrderByCreatedAtAfterCursor(pageCursor.localDateTimeValue(), pageCursor.id(), limit);
+                }
+            }
+            case MOST_LIKED -> {
+                if (cursor == null) {
+                    recipes = recipeRepository.findFeedOrderByLikes(limit);
+                } else {
+                    PageCursor pageCursor = PageCursor.decode(cursor, sortKey);
+                    recipes = recipeRepository.findFeedOrderByLikesAfterCursor(pageCursor.longValue(), pageCursor.id(), limit);
+                }
+            }
+            case RECENTLY_MODIFIED -> {
+                if (cursor == null) {
+                    recipes = recipeRepository.findFeedOrderByModifiedAt(limit);
+                } else {
+                    PageCursor pageCursor = PageCursor.decode(cursor, sortKey);
+                    recipes = recipeRepository.findFeedOrderByModifiedAtAfterCursor(pageCursor.localDateTimeValue(), pageCursor.id(), limit);
+                }
+            }
+            case MOST_COMMENTED -> {
+                if (cursor == null) {
+                    recipes = recipeRepository.findFeedOrderByCommentCount(limit);
+                } else {
+                    PageCursor pageCursor = PageCursor.decode(cursor, sortKey);
+                    recipes = recipeRepository.findFeedOrderByCommentCountAfterCursor(pageCursor.longValue(), pageCursor.id(), limit);
+                }
+            }
+            default -> throw new IllegalStateException("unexpected sort: " + sort);
+        }
+
+        if (cursor == null && recipes.isEmpty()) {
+            return ResponseEntity.status(HttpStatus.OK).body("먼저 작성하여 소식을 알려보세요!");
+        }
+
+        String next = null;
+        if (recipes.size() > FEED_SIZE) {
+            recipes = recipes.subList(0, FEED_SIZE);
+            Recipe last = recipes.get(FEED_SIZE - 1);
+            String value = switch (sort) {
+                case NEWEST -> last.getCreatedAt().toString();
+                case MOST_LIKED -> String.valueOf(last.getRecipeLikes());
+                case RECENTLY_MODIFIED -> last.getModifiedAt().toString();
+                case MOST_COMMENTED -> String.valueOf(last.getCommentCount());
+            };
+            next = new PageCursor(sortKey, value, last.getId()).encode();
+        }
+
+        List<RecipeResponseDto> content = recipes.stream().map(this::toDto).toList();
+        markLiked(content, viewer);
+        return ResponseEntity.status(HttpStatus.OK).body(new CursorResponseDto<>(content, next));
     }
 
     public ResponseEntity getDateRecipe(int page, String startDate, String endDate) {
@@ -84,7 +284,22 @@ public class RecipeService {
             return ResponseEntity.status(HttpStatus.OK).body("먼저 작성하여 소식을 알려보세요!");
         }
 
-        return ResponseEntity.status(HttpStatus.OK).body(recipeList.map(RecipeResponseDto::new));
+        return ResponseEntity.status(HttpStatus.OK).body(recipeList.map(this::toDto));
+    }
+
+    // 아직 DB에 반영되지 않은 좋아요 증감을 더해서 응답
+    private RecipeResponseDto toDto(Recipe recipe) {
+        return new RecipeResponseDto(recipe, likeCountAccumulator.getPendingRecipeLikes(recipe.getId()));
+    }
+
+    // 목록의 레시피 중 viewer 가 좋아요한 것을 한 번에 조회해서 표시
+    private void markLiked(List<RecipeResponseDto> recipes, User viewer) {
+        if (viewer == null || recipes.isEmpty()) {
+            return;
+        }
+        Set<Long> liked = likeLookupService.findLikedRecipeIds(viewer.getId(),
+                recipes.stream().map(RecipeResponseDto::getId).toList());
+        recipes.forEach(recipe -> recipe.setLikedByMe(liked.contains(recipe.getId())));
     }
 
     private void checkUserSame(Recipe recipe, User user) {
@@ -93,8 +308,25 @@ public class RecipeService {
         }
     }
 
+    // 최근에 없다고 확인된 id 는 DB를 조회하지 않음
+    // 엔티티는 요청(영속성 컨텍스트)마다 따로 조회해야 하므로 캐시하지 않음
     public Recipe findById(Long recipeId) {
-        return recipeRepository.findById(recipeId).orElseThrow(() ->
+        if (recipeLookupCache.isMissing(recipeId)) {
+            throw new IllegalArgumentException("해당 레시피가 존재하지 않습니다.");
+        }
+        Recipe recipe = recipeRepository.findById(recipeId).orElse(null);
+        // 삭제 요청된(숨긴) 레시피도 없는 것으로
+        if (recipe == null || recipe.isDeleted()) {
+            recipeLookupCache.markMissing(recipeId);
+            throw new IllegalArgumentException("해당 레시피가 존재하지 않습니다.");
+        }
+        recipeLookupCache.putAuthorId(recipeId, recipe.getUser().getId());
+        return recipe;
+    }
+
+    // 작성자 확인만 필요한 경우 (같은 id 동시 조회는 한 번만 DB 조회)
+    public Long findAuthorId(Long recipeId) {
+        return recipeLookupCache.getAuthorId(recipeId, recipeRepository::findAuthorIdById).orElseThrow(() ->
                 new IllegalArgumentException("해당 레시피가 존재하지 않습니다.")
         );
     }
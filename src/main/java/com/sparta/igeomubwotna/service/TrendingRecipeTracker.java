@@ -0,0 +1,223 @@
+package com.sparta.igeomubwotna.service;
+
+import com.sparta.igeomubwotna.util.TransactionHooks;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeSet;
+
+// 최근 좋아요, 댓글이 많은 레시피 (최근 1시간 / 1일 기준, 오래된 이벤트일수록 지수적으로 덜 셈)
+// 이벤트마다 가중치 * e^((t - base) / tau) 를 더해 두면 (forward decay) 모든 레시피가 같은 비율로 감쇠하므로
+// 새 이벤트가 없는 레시피끼리는 순위가 바뀌지 않음 -> 이벤트가 온 레시피 한 건만 정렬 집합에서 다시 넣으면 됨
+// 조회는 정렬 집합 앞에서 k개만 읽음 (DB 조회 없음), 서버를 재시작하면 처음부터 다시 모음
+@Slf4j(topic = "인기 급상승 레시피")
+@Component
+public class TrendingRecipeTracker {
+
+    // tau : 이 시간이 지나면 점수가 1/e 로 줄어듦
+    public enum Window {
+        HOUR(Duration.ofHours(1)),
+        DAY(Duration.ofDays(1));
+
+        private final Duration tau;
+
+        Window(Duration tau) {
+            this.tau = tau;
+        }
+
+        // 요청 파라미터 (hour, day)
+        public static Window from(String value) {
+            try {
+                return valueOf(value.toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("지원하지 않는 기간입니다. (hour, day)");
+            }
+        }
+    }
+
+    public record TrendingRecipe(Long recipeId, double score) {
+    }
+
+    // 현재 점수가 이보다 작으면 prune 에서 제거
+    private static final double MIN_SCORE = 0.01;
+
+    private final double likeWeight;
+    private final double commentWeight;
+    private final int maxTracked;
+    private final Map<Window, DecayedRanking> rankings = new EnumMap<>(Window.class);
+
+    public TrendingRecipeTracker(@Value("${trending.like-weight:1}") double likeWeight,
+                                 @Value("${trending.comment-weight:2}") double commentWeight,
+                                 @Value("${trending.max-tracked:10000}") int maxTracked) {
+        this.likeWeight = likeWeight;
+        this.commentWeight = commentWeight;
+        this.maxTracked = maxTracked;
+        long now = System.currentTimeMillis();
+        for (Window window : Window.values()) {
+            rankings.put(window, new DecayedRanking(window.tau.toMillis(), now));
+        }
+    }
+
+    // count : 추가된 좋아요 수 (좋아요 해제는 recipeUnliked, 0 이하는 무시)
+    // 트랜잭션 안이라면 커밋된 경우에만 반영
+    public void recipeLiked(Long recipeId, long count) {
+        if (count > 0) {
+            TransactionHooks.afterCommit(() -> record(recipeId, likeWeight * count, System.currentTimeMillis()));
+        }
+    }
+
+    public void recipeCommented(Long recipeId, long count) {
+        if (count > 0) {
+            TransactionHooks.afterCommit(() -> record(recipeId, commentWeight * count, System.currentTimeMillis()));
+        }
+    }
+
+    // 좋아요 해제, 댓글 삭제 : 원래 이벤트 시각 기준으로 감쇠된 만큼만 뺌 (반복해서 눌렀다 취소해도 점수가 오르지 않도록)
+    // 현재 시각 기준으로 빼면 오래된 좋아요 하나를 해제할 때 최근 좋아요 점수까지 사라짐
+    // 이벤트 시각을 모르면 (null) 빼지 않음
+    public void recipeUnliked(Long recipeId, LocalDateTime likedAt) {
+        if (likedAt != null) {
+            TransactionHooks.afterCommit(() -> record(recipeId, -likeWeight, toMillis(likedAt), System.currentTimeMillis()));
+        }
+    }
+
+    public void recipeUncommented(Long recipeId, LocalDateTime commentedAt) {
+        if (commentedAt != null) {
+            TransactionHooks.afterCommit(() -> record(recipeId, -commentWeight, toMillis(commentedAt), System.currentTimeMillis()));
+        }
+    }
+
+    public void remove(Long recipeId) {
+        TransactionHooks.afterCommit(() -> rankings.values().forEach(ranking -> ranking.remove(recipeId)));
+    }
+
+    public void removeAll(Collection<Long> recipeIds) {
+        recipeIds.forEach(this::remove);
+    }
+
+    public List<TrendingRecipe> getTrending(Window window, int limit) {
+        return getTrending(window, limit, System.currentTimeMillis());
+    }
+
+    List<TrendingRecipe> getTrending(Window window, int limit, long nowMillis) {
+        return rankings.get(window).top(limit, nowMillis);
+    }
+
+    void record(Long recipeId, double weight, long nowMillis) {
+        record(recipeId, weight, nowMillis, nowMillis);
+    }
+
+    // eventMillis : 이벤트가 일어난 시각 (가중치를 이 시각 기준으로 감쇠)
+    void record(Long recipeId, double weight, long eventMillis, long nowMillis) {
+        for (DecayedRanking ranking : rankings.values()) {
+            ranking.add(recipeId, weight, Math.min(eventMillis, nowMillis), nowMillis, maxTracked);
+        }
+    }
+
+    private static long toMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    // 기준 시각을 현재로 옮기고 (지수가 계속 커지지 않도록) 거의 0이 된 레시피를 제거
+    @Scheduled(fixedDelayString = "${trending.prune-interval-millis:60000}")
+    public void prune() {
+        prune(System.currentTimeMillis());
+    }
+
+    void prune(long nowMillis) {
+        rankings.forEach((window, ranking) -> {
+            int removed = ranking.rebase(nowMillis);
+            if (removed > 0) {
+                log.debug("{} trending: {} recipes pruned", window, removed);
+            }
+        });
+    }
+
+    // 기간 하나의 점수표 : id -> 저장된 점수 (base 시각 기준), 점수 내림차순 (같으면 최신 id 먼저) 정렬 집합
+    private static final class DecayedRanking {
+
+        private static final Comparator<TrendingRecipe> ORDER = Comparator.comparingDouble(TrendingRecipe::score).reversed()
+                .thenComparing(TrendingRecipe::recipeId, Comparator.reverseOrder());
+        // prune 이 한동안 돌지 않아도 e^x 가 넘치지 않도록 이 배수(tau)만큼 지나면 add 에서 기준 시각을 옮김
+        private static final int MAX_EXPONENT = 30;
+
+        private final long tauMillis;
+        private final Map<Long, Double> scores = new HashMap<>();
+        private final TreeSet<TrendingRecipe> ordered = new TreeSet<>(ORDER);
+        private long baseMillis;
+
+        private DecayedRanking(long tauMillis, long baseMillis) {
+            this.tauMillis = tauMillis;
+            this.baseMillis = baseMillis;
+        }
+
+        synchronized void add(Long recipeId, double weight, long eventMillis, long nowMillis, int maxTracked) {
+            if (nowMillis - baseMillis > MAX_EXPONENT * tauMillis) {
+                rebase(nowMillis);
+            }
+            // 추적하지 않는 레시피(점수가 거의 0이라 제거됨)에서는 뺄 것이 없음
+            if (weight < 0 && !scores.containsKey(recipeId)) {
+                return;
+            }
+            Double previous = scores.remove(recipeId);
+            if (previous != null) {
+                ordered.remove(new TrendingRecipe(recipeId, previous));
+            }
+            double score = (previous != null ? previous : 0) + weight * Math.exp((double) (eventMillis - baseMillis) / tauMillis);
+            if (score <= 0) {
+                return;
+            }
+            scores.put(recipeId, score);
+            ordered.add(new TrendingRecipe(recipeId, score));
+            // 가장 낮은 레시피부터 버려서 메모리를 제한
+            if (ordered.size() > maxTracked) {
+                scores.remove(ordered.pollLast().recipeId());
+            }
+        }
+
+        synchronized void remove(Long recipeId) {
+            Double previous = scores.remove(recipeId);
+            if (previous != null) {
+                ordered.remove(new TrendingRecipe(recipeId, previous));
+            }
+        }
+
+        // 저장된 점수에 e^(-(now - base) / tau) 를 곱하면 현재 점수
+        synchronized List<TrendingRecipe> top(int limit, long nowMillis) {
+            double decay = Math.exp(-(double) (nowMillis - baseMillis) / tauMillis);
+            List<TrendingRecipe> result = new ArrayList<>(Math.min(limit, ordered.size()));
+            Iterator<TrendingRecipe> iterator = ordered.iterator();
+            while (result.size() < limit && iterator.hasNext()) {
+                TrendingRecipe entry = iterator.next();
+                result.add(new TrendingRecipe(entry.recipeId(), entry.score() * decay));
+            }
+            return result;
+        }
+
+        // 제거한 레시피 수 반환
+        synchronized int rebase(long nowMillis) {
+            double decay = Math.exp(-(double) (nowMillis - baseMillis) / tauMillis);
+            int before = scores.size();
+            ordered.clear();
+            scores.entrySet().removeIf(entry -> entry.getValue() * decay < MIN_SCORE);
+            scores.replaceAll((recipeId, score) -> score * decay);
+            scores.forEach((recipeId, score) -> ordered.add(new TrendingRecipe(recipeId, score)));
+            baseMillis = nowMillis;
+            return before - scores.size();
+        }
+    }
+}
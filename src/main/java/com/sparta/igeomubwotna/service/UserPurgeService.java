@@ -0,0 +1,259 @@
+package com.sparta.igeomubwotna.service;
+
+import com.sparta.igeomubwotna.entity.UserPurgeCheckpoint;
+import com.sparta.igeomubwotna.entity.UserPurgeCheckpoint.Phase;
+import com.sparta.igeomubwotna.entity.UserStatusEnum;
+import com.sparta.igeomubwotna.repository.UserPurgeCheckpointRepository;
+import com.sparta.igeomubwotna.search.RecipeSearchIndex;
+import com.sparta.igeomubwotna.search.RecipeTitleSuggester;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.ObjLongConsumer;
+
+// 탈퇴 후 보관 기간이 지난 회원과 그 데이터(좋아요, 댓글, 레시피, 다른 회원이 그 위에 남긴 댓글과 좋아요) 삭제
+// 엔티티 cascade 로 전부 불러오지 않고 chunk-size 행씩 집합 단위 DELETE, 문장마다 따로 커밋하고 pause-millis 씩 쉬어서 일반 요청과 경합을 줄임
+// 회원별로 끝난 단계를 user_purge_checkpoint 에 기록하므로 중간에 멈춰도 다음 실행에서 이어서 진행
+@Slf4j(topic = "탈퇴 회원 삭제")
+@Service
+public class UserPurgeService {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final UserPurgeCheckpointRepository checkpointRepository;
+    private final LikeCountAccumulator likeCountAccumulator;
+    private final RecipeResponseCache recipeResponseCache;
+    private final RecipeLookupCache recipeLookupCache;
+    private final RecipeSearchIndex recipeSearchIndex;
+    private final TrendingRecipeTracker trendingRecipeTracker;
+    private final RecipeTitleSuggester recipeTitleSuggester;
+    private final RecipePurgeService recipePurgeService;
+    private final CommentLookupCache commentLookupCache;
+    private final long retentionDays;
+    private final int chunkSize;
+    private final long pauseMillis;
+    // 스케줄러 스레드(좋아요 수 반영 등과 공유)를 오래 붙잡지 않도록 별도 스레드에서 실행
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(task -> new Thread(task, "user-purge"));
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public UserPurgeService(JdbcTemplate jdbcTemplate,
+                            UserPurgeCheckpointRepository checkpointRepository,
+                            LikeCountAccumulator likeCountAccumulator,
+                            RecipeResponseCache recipeResponseCache,
+                            RecipeLookupCache recipeLookupCache,
+                            RecipeSearchIndex recipeSearchIndex,
+                            TrendingRecipeTracker trendingRecipeTracker,
+                            RecipeTitleSuggester recipeTitleSuggester,
+                            RecipePurgeService recipePurgeService,
+                            CommentLookupCache commentLookupCache,
+                            @Value("${user.purge.retention-days:30}") long retentionDays,
+                            @Value("${user.purge.chunk-size:500}") int chunkSize,
+                            @Value("${user.purge.pause-millis:100}") long pauseMillis) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.checkpointRepository = checkpointRepository;
+        this.likeCountAccumulator = likeCountAccumulator;
+        this.recipeResponseCache = recipeResponseCache;
+        this.recipeLookupCache = recipeLookupCache;
+        this.recipeSearchIndex = recipeSearchIndex;
+        this.trendingRecipeTracker = trendingRecipeTracker;
+        this.recipeTitleSuggester = recipeTitleSuggester;
+        this.recipePurgeService = recipePurgeService;
+        this.commentLookupCache = commentLookupCache;
+        this.retentionDays = retentionDays;
+        this.chunkSize = chunkSize;
+        this.pauseMillis = pauseMillis;
+    }
+
+    // 이전 실행이 아직 진행 중이면 건너뜀
+    @Scheduled(cron = "${user.purge.cron:0 0 4 * * *}")
+    public void schedule() {
+        if (!running.compareAndSet(false, true)) {
+            return;
+        }
+        executor.execute(() -> {
+            try {
+                purgeExpiredUsers();
+            } finally {
+                running.set(false);
+            }
+        });
+    }
+
+    // 삭제한 회원 수 반환
+    public int purgeExpiredUsers() {
+        LocalDateTime threshold = LocalDateTime.now().minusDays(retentionDays);
+        int purged = 0;
+        long lastId = 0L;
+        List<Long> userIds;
+        // 실패한 회원이 있어도 다음 회원으로 넘어가도록 id 순서로 조회
+        while (!(userIds = jdbcTemplate.queryForList(
+                "select id from users where status = ? and status_modified_at < ? and id > ? order by id limit ?",
+                Long.class, UserStatusEnum.WITHDRAWN.name(), threshold, lastId, chunkSize)).isEmpty()) {
+            for (Long userId : userIds) {
+                if (Thread.currentThread().isInterrupted()) {
+                    return purged;
+                }
+                try {
+                    purgeUser(userId);
+                    purged++;
+                } catch (RuntimeException e) {
+                    // 체크포인트가 남아 있으므로 다음 실행에서 이어서 진행
+                    log.error("user {} purge failed: {}", userId, e.getMessage());
+                }
+                lastId = userId;
+            }
+        }
+        return purged;
+    }
+
+    public void purgeUser(Long userId) {
+        UserPurgeCheckpoint checkpoint = checkpointRepository.findById(userId)
+                .orElseGet(() -> checkpointRepository.save(new UserPurgeCheckpoint(userId, Phase.HIDE_RECIPES)));
+        Phase[] phases = Phase.values();
+        for (int i = checkpoint.getPhase().ordinal(); i < phases.length - 1; i++) {
+            runPhase(phases[i], userId);
+            checkpoint.moveTo(phases[i + 1]);
+            checkpoint = checkpointRepository.save(checkpoint);
+        }
+
+        // 체크포인트를 먼저 지움 (회원 삭제 전에 멈추면 처음부터 다시 실행되지만 남은 행이 없으므로 바로 끝남)
+        checkpointRepository.deleteById(userId);
+        jdbcTemplate.update("delete from users where id = ? and status = ?", userId, UserStatusEnum.WITHDRAWN.name());
+        log.info("user {} purged", userId);
+    }
+
+    private void runPhase(Phase phase, Long userId) {
+        switch (phase) {
+            case HIDE_RECIPES -> hideRecipes(userId);
+            case USER_LIKES -> {
+                // 다른 회원의 레시피, 댓글 좋아요 수도 함께 줄임
+                deleteLikes("recipe_likes", "recipe_id", userId, likeCountAccumulator::addRecipeLike);
+                deleteLikes("comment_likes", "comment_id", userId, likeCountAccumulator::addCommentLike);
+            }
+            case COMMENT_LIKES -> {
+                deleteInChunks("delete from comment_likes where comment_id in " +
+                        "(select id from comment where user_id = ?) limit " + chunkSize, userId);
+                deleteInChunks("delete from comment_likes where comment_id in " +
+                        "(select c.id from comment c join recipe r on r.id = c.recipe_id where r.user_id = ?) limit " + chunkSize, userId);
+            }
+            case COMMENTS -> {
+                deleteComments("select id from comment where user_id = ? order by id limit ?", userId);
+                deleteComments("select c.id from comment c join recipe r on r.id = c.recipe_id " +
+                        "where r.user_id = ? order by c.id limit ?", userId);
+            }
+            case RECIPE_LIKES -> deleteInChunks("delete from recipe_likes where recipe_id in " +
+                    "(select id from recipe where user_id = ?) limit " + chunkSize, userId);
+            case RECIPES -> {
+                // HIDE_RECIPES 가 없던 체크포인트에서 이어진 경우 아직 숨기지 않은 레시피가 있을 수 있음
+                hideRecipes(userId);
+                purgeRecipes(userId);
+            }
+            default -> throw new IllegalStateException("unexpected phase: " + phase);
+        }
+    }
+
+    // 회원의 레시피를 숨김 (deleted = true), 캐시된 응답과 검색 색인, 제목 자동완성에서도 지워야 하므로 id 를 조회해서 처리
+    private void hideRecipes(Long userId) {
+        List<Long> recipeIds;
+        while (!(recipeIds = jdbcTemplate.queryForList(
+                "select id from recipe where user_id = ? and deleted = false order by id limit ?",
+                Long.class, userId, chunkSize)).isEmpty()) {
+            jdbcTemplate.update("update recipe set deleted = true where id in (" + placeholders(recipeIds.size()) + ")",
+                    recipeIds.toArray());
+            recipeResponseCache.evictAll(recipeIds);
+            recipeIds.forEach(recipeLookupCache::markMissing);
+            recipeSearchIndex.removeAll(recipeIds);
+            trendingRecipeTracker.removeAll(recipeIds);
+            recipeTitleSuggester.markDirty();
+            pause();
+        }
+    }
+
+    // 앞 단계 사이에 달린 좋아요, 댓글이 있어도 FK 에 걸리지 않도록 레시피마다 딸린 데이터부터 지움 (RecipePurgeService)
+    // 다른 곳(sweep 등)에서 삭제 중인 레시피가 있으면 체크포인트를 남겨 두고 다음 실행에서 다시 시도
+    private void purgeRecipes(Long userId) {
+        boolean skipped = false;
+        long lastId = 0L;
+        List<Long> recipeIds;
+        while (!(recipeIds = jdbcTemplate.queryForList(
+                "select id from recipe where user_id = ? and id > ? order by id limit ?",
+                Long.class, userId, lastId, chunkSize)).isEmpty()) {
+            for (Long recipeId : recipeIds) {
+                skipped |= !recipePurgeService.purge(recipeId);
+                lastId = recipeId;
+            }
+            pause();
+        }
+        if (skipped) {
+            throw new IllegalStateException("다른 곳에서 삭제 중인 레시피가 있어 다음 실행에서 다시 시도합니다.");
+        }
+    }
+
+    // 댓글 조회 캐시에서도 지워야 하므로 id 를 조회해서 삭제
+    // COMMENT_LIKES 단계 이후에 달린 좋아요가 있어도 FK 에 걸리지 않도록 좋아요부터 지움
+    private void deleteComments(String selectSql, Long userId) {
+        List<Long> commentIds;
+        while (!(commentIds = jdbcTemplate.queryForList(selectSql, Long.class, userId, chunkSize)).isEmpty()) {
+            String in = placeholders(commentIds.size());
+            Object[] ids = commentIds.toArray();
+            deleteInChunks("delete from comment_likes where comment_id in (" + in + ") limit " + chunkSize, ids);
+            jdbcTemplate.update("delete from comment where id in (" + in + ")", ids);
+            commentIds.forEach(commentLookupCache::evict);
+            pause();
+        }
+    }
+
+    // 회원이 누른 좋아요를 지우고 대상별 좋아요 수를 줄임
+    private void deleteLikes(String table, String targetColumn, Long userId, ObjLongConsumer<Long> deltas) {
+        List<Map<String, Object>> likes;
+        while (!(likes = jdbcTemplate.queryForList(
+                "select id, " + targetColumn + " as target_id from " + table + " where user_id = ? order by id limit ?",
+                userId, chunkSize)).isEmpty()) {
+            Object[] ids = likes.stream().map(like -> like.get("id")).toArray();
+            jdbcTemplate.update("delete from " + table + " where id in (" + placeholders(ids.length) + ")", ids);
+            likes.forEach(like -> deltas.accept(((Number) like.get("target_id")).longValue(), -1L));
+            pause();
+        }
+    }
+
+    private void deleteInChunks(String sql, Object... args) {
+        int deleted;
+        do {
+            deleted = jdbcTemplate.update(sql, args);
+            pause();
+        } while (deleted >= chunkSize);
+    }
+
+    private static String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+
+    private void pause() {
+        if (pauseMillis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(pauseMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("탈퇴 회원 삭제가 중단되었습니다.");
+        }
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        executor.shutdownNow();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+    }
+}
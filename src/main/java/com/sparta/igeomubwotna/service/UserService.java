@@ -2,7 +2,9 @@ package com.sparta.igeomubwotna.service;
 
 import com.sparta.igeomubwotna.dto.*;
 import com.sparta.igeomubwotna.entity.User;
+import com.sparta.igeomubwotna.jwt.TokenRevocationStore;
 import com.sparta.igeomubwotna.repository.UserRepository;
+import com.sparta.igeomubwotna.security.UserPrincipalCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
@@ -15,6 +17,7 @@ import org.springframework.validation.BindingResult;
 import org.springframework.validation.FieldError;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
@@ -25,6 +28,8 @@ import java.util.Optional;
 public class UserService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final UserPrincipalCache principalCache;
+    private final TokenRevocationStore revocationStore;
 
     @Transactional
     public ResponseEntity<Response> signup(SignupRequestDto requestDto, BindingResult bindingResult) {
@@ -94,6 +99,11 @@ public class UserService {
         return new UserProfileDto(user);
     }
 
+    // 프로필 조건부 GET 용 마지막 수정 시각 (없는 사용자면 null)
+    public LocalDateTime getProfileModifiedAt(Long userId) {
+        return userRepository.findModifiedAtById(userId).orElse(null);
+    }
+
     @Transactional
     public ResponseEntity<Response> updateUserProfile(UserUpdateRequestDto requestDto, Long userId) {
         // ID로 사용자를 검색하고, 없으면 예외를 던짐
@@ -121,6 +131,7 @@ public class UserService {
             user.updatePassword(passwordEncoder.encode(requestDto.getNewPassword()));
         }
         userRepository.save(user);  // 사용자 정보 저장
+        principalCache.evict(user.getUserId());  // 캐시된 인증 정보 무효화
 
         Response response = new Response(HttpStatus.OK.value(), "프로필 정보를 성공적으로 수정하였습니다.");
         return ResponseEntity.ok().body(response);
@@ -134,9 +145,13 @@ public class UserService {
 
         // refreshToken 초기화
         user.updateRefreshToken(null);
+        // 이미 발급된 AccessToken 무효화
+        user.increaseTokenGeneration();
+        revocationStore.revoke(user.getUserId(), user.getTokenGeneration());
 
         // 사용자 정보 저장
         userRepository.save(user);
+        principalCache.evict(user.getUserId());
 
         // SecurityContextHolder 초기화
         SecurityContextHolder.clearContext();
@@ -159,7 +174,10 @@ public class UserService {
 
         // 회원 탈퇴 처리
         user.withdraw();
+        user.increaseTokenGeneration();
+        revocationStore.revoke(user.getUserId(), user.getTokenGeneration());
         userRepository.save(user);
+        principalCache.evict(user.getUserId());
 
         Response response = new Response(HttpStatus.OK.value(), "회원 탈퇴가 성공적으로 완료되었습니다.");
         return ResponseEntity.ok().body(response);
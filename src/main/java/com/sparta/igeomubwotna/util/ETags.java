@@ -0,0 +1,20 @@
+package com.sparta.igeomubwotna.util;
+
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+// 응답 본문 대신 버전 정보(id, 수정 시각, 좋아요 수 등)로 만든 약한 ETag
+public final class ETags {
+
+    private ETags() {
+    }
+
+    // 값들을 이어 붙여 해시 : W/"..."
+    public static String weak(Object... parts) {
+        String joined = Arrays.stream(parts).map(String::valueOf).collect(Collectors.joining("|"));
+        return "W/\"" + DigestUtils.md5DigestAsHex(joined.getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+}
@@ -0,0 +1,48 @@
+package com.sparta.igeomubwotna.util;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+// 커서 기반 페이지네이션에서 마지막으로 내려준 행의 위치 (정렬 기준, 정렬 값, id)
+// 클라이언트에는 내용을 알 수 없는 문자열(base64url)로 전달
+public record PageCursor(String sortKey, String value, Long id) {
+
+    private static final String DELIMITER = "|";
+
+    public String encode() {
+        String raw = sortKey + DELIMITER + value + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 잘못된 형식이거나 다른 정렬 기준으로 만든 커서면 IllegalArgumentException
+    public static PageCursor decode(String cursor, String expectedSortKey) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", -1);
+            if (parts.length != 3 || !parts[0].equals(expectedSortKey) || parts[1].isEmpty()) {
+                throw new IllegalArgumentException("잘못된 커서입니다.");
+            }
+            return new PageCursor(parts[0], parts[1], Long.parseLong(parts[2]));
+        } catch (IllegalArgumentException e) { // NumberFormatException 포함
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+    }
+
+    public long longValue() {
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+    }
+
+    public LocalDateTime localDateTimeValue() {
+        try {
+            return LocalDateTime.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.sparta.igeomubwotna.util;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// 메모리 상태(캐시, 색인, 집계)를 DB 커밋에 맞춰 바꿀 때 사용
+public final class TransactionHooks {
+
+    private TransactionHooks() {
+    }
+
+    // 트랜잭션 안이라면 커밋된 경우에만 실행 (롤백되면 실행하지 않음), 밖이면 바로 실행
+    public static void afterCommit(Runnable task) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    task.run();
+                }
+            });
+        } else {
+            task.run();
+        }
+    }
+
+    // 바로 실행하고, 트랜잭션 안이라면 커밋 후 한 번 더 실행
+    // 캐시 제거용 : 커밋 전에 다른 요청이 이전 값을 다시 캐시할 수 있음
+    public static void nowAndAfterCommit(Runnable task) {
+        task.run();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            afterCommit(task);
+        }
+    }
+}
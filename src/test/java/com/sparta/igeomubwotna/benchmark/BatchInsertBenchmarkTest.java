@@ -0,0 +1,162 @@
+package com.sparta.igeomubwotna.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.hibernate.Session;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.sparta.igeomubwotna.dto.CommentRequestDto;
+import com.sparta.igeomubwotna.dto.RecipeRequestDto;
+import com.sparta.igeomubwotna.entity.Comment;
+import com.sparta.igeomubwotna.entity.IdSequences;
+import com.sparta.igeomubwotna.entity.Recipe;
+import com.sparta.igeomubwotna.entity.User;
+import com.sparta.igeomubwotna.repository.RecipeRepository;
+import com.sparta.igeomubwotna.repository.UserRepository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+// 댓글 10만 건 / 댓글 좋아요 10만 건 저장 시간 비교 (한 건씩 INSERT vs JDBC 배치)
+// 실행: ./gradlew benchmark (설정된 DB에 댓글과 좋아요를 각각 20만 건 넣고, 끝나면 측정용 레시피와 함께 지움)
+// 측정용 회원(benchmarkuser1, 2)은 다음 실행에서 다시 쓰도록 남겨 둠
+@Tag("benchmark")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.show_sql=false")
+class BatchInsertBenchmarkTest {
+
+	private static final int ROW_COUNT = 100_000;
+	// 영속성 컨텍스트가 커지지 않도록 flush / clear 하는 단위
+	private static final int FLUSH_SIZE = 1_000;
+	// 정리할 때 한 번에 지우는 행 수
+	private static final int CLEANUP_CHUNK = 10_000;
+
+	private static final String LIKE_INSERT_SQL =
+		"insert ignore into comment_likes (user_id, comment_id, created_at, modified_at) values (?, ?, now(6), now(6))";
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private RecipeRepository recipeRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	private User author;
+	private User liker;
+	private Recipe recipe;
+
+	@BeforeAll
+	void seed() {
+		author = findOrSaveUser("benchmarkuser1");
+		liker = findOrSaveUser("benchmarkuser2");
+		recipe = recipeRepository.save(new Recipe(new RecipeRequestDto("배치 저장 측정", "댓글 10만 건"), author));
+	}
+
+	// 측정 중 실패해도 넣은 행이 남지 않도록 레시피 기준으로 삭제 (잠금을 짧게 유지하도록 CLEANUP_CHUNK 행씩)
+	@AfterAll
+	void cleanUp() {
+		if (recipe == null) {
+			return;
+		}
+		while (jdbcTemplate.update("delete from comment_likes where comment_id in " +
+			"(select id from comment where recipe_id = ?) limit " + CLEANUP_CHUNK, recipe.getId()) > 0) {
+			// 남은 좋아요가 없을 때까지 반복
+		}
+		while (jdbcTemplate.update("delete from comment where recipe_id = ? limit " + CLEANUP_CHUNK, recipe.getId()) > 0) {
+			// 남은 댓글이 없을 때까지 반복
+		}
+		jdbcTemplate.update("delete from recipe where id = ?", recipe.getId());
+	}
+
+	private User findOrSaveUser(String userId) {
+		return userRepository.findByUserId(userId)
+			.orElseGet(() -> userRepository.save(
+				new User(userId, "Benchmark11!", "benchmark", userId + "@igeo.com", "benchmark")));
+	}
+
+	@Test
+	@DisplayName("한 건씩 INSERT vs JDBC 배치 INSERT")
+	void compareSingleAndBatchInsert() {
+		List<Long> singleCommentIds = report("comments batch_size=1", () -> insertComments(1));
+		List<Long> batchCommentIds = report("comments batch_size=" + IdSequences.ALLOCATION_SIZE,
+			() -> insertComments(IdSequences.ALLOCATION_SIZE));
+
+		report("comment likes single", () -> insertLikesOneByOne(singleCommentIds));
+		report("comment likes batch", () -> insertLikesInBatches(batchCommentIds));
+	}
+
+	private List<Long> insertComments(int jdbcBatchSize) {
+		return transactionTemplate.execute(status -> {
+			entityManager.unwrap(Session.class).setJdbcBatchSize(jdbcBatchSize);
+			List<Long> ids = new ArrayList<>(ROW_COUNT);
+			for (int i = 0; i < ROW_COUNT; i++) {
+				Comment comment = new Comment(new CommentRequestDto("댓글 " + i),
+					entityManager.getReference(Recipe.class, recipe.getId()),
+					entityManager.getReference(User.class, author.getId()));
+				entityManager.persist(comment);
+				ids.add(comment.getId());
+				if ((i + 1) % FLUSH_SIZE == 0) {
+					entityManager.flush();
+					entityManager.clear();
+				}
+			}
+			entityManager.flush();
+			entityManager.clear();
+			return ids;
+		});
+	}
+
+	private List<Long> insertLikesOneByOne(List<Long> commentIds) {
+		transactionTemplate.executeWithoutResult(status -> {
+			for (Long commentId : commentIds) {
+				jdbcTemplate.update(LIKE_INSERT_SQL, liker.getId(), commentId);
+			}
+		});
+		return commentIds;
+	}
+
+	private List<Long> insertLikesInBatches(List<Long> commentIds) {
+		transactionTemplate.executeWithoutResult(status -> {
+			List<Object[]> rows = new ArrayList<>(FLUSH_SIZE);
+			for (Long commentId : commentIds) {
+				rows.add(new Object[] {liker.getId(), commentId});
+				if (rows.size() == FLUSH_SIZE) {
+					jdbcTemplate.batchUpdate(LIKE_INSERT_SQL, rows);
+					rows.clear();
+				}
+			}
+			if (!rows.isEmpty()) {
+				jdbcTemplate.batchUpdate(LIKE_INSERT_SQL, rows);
+			}
+		});
+		return commentIds;
+	}
+
+	private <T> T report(String name, Supplier<T> call) {
+		long start = System.nanoTime();
+		T result = call.get();
+		double elapsedMillis = (System.nanoTime() - start) / 1_000_000.0;
+		System.out.printf("%-26s %10.2f ms, %10.0f rows/s%n", name, elapsedMillis,
+			ROW_COUNT / (elapsedMillis / 1_000.0));
+		return result;
+	}
+}
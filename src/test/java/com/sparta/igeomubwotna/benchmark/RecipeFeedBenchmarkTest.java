@@ -0,0 +1,162 @@
+package com.sparta.igeomubwotna.benchmark;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.sparta.igeomubwotna.config.IdSequenceInitializer;
+import com.sparta.igeomubwotna.entity.Recipe;
+import com.sparta.igeomubwotna.entity.User;
+import com.sparta.igeomubwotna.repository.RecipeRepository;
+import com.sparta.igeomubwotna.repository.RecipeSort;
+import com.sparta.igeomubwotna.repository.UserRepository;
+import com.sparta.igeomubwotna.service.RecipeService;
+import com.sparta.igeomubwotna.util.PageCursor;
+
+// 페이지 번호 방식(OFFSET + COUNT)과 커서 방식의 1페이지 / 10,000페이지 응답 시간 비교
+// 지원하는 정렬(RecipeSort)마다 실행 계획이 filesort 없이 (정렬 값, id) 인덱스를 쓰는지 확인
+// 실행: ./gradlew benchmark (설정된 DB에 레시피 약 10만 건을 넣음)
+@Tag("benchmark")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.show_sql=false")
+class RecipeFeedBenchmarkTest {
+
+	private static final int PAGE_SIZE = 10;
+	private static final int DEEP_PAGE = 10_000;
+	private static final int RECIPE_COUNT = PAGE_SIZE * DEEP_PAGE + PAGE_SIZE;
+	private static final int ROUNDS = 20;
+
+	@Autowired
+	private RecipeService recipeService;
+
+	@Autowired
+	private RecipeRepository recipeRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private IdSequenceInitializer idSequenceInitializer;
+
+	// 웹 요청의 open-in-view 와 같이 조회 중 지연 로딩이 가능하도록 트랜잭션 안에서 호출
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+
+	@BeforeAll
+	void seed() {
+		long existing = recipeRepository.count();
+		if (existing >= RECIPE_COUNT) {
+			return;
+		}
+
+		User user = userRepository.findByUserId("benchmarkuser1")
+			.orElseGet(() -> userRepository.save(
+				new User("benchmarkuser1", "Benchmark11!", "benchmark", "benchmark@igeo.com", "benchmark")));
+
+		// id 는 자동 증가가 아니므로 직접 지정하고, 넣은 뒤 id 시퀀스를 맞춤
+		long nextId = jdbcTemplate.queryForObject("select coalesce(max(id), 0) + 1 from recipe", Long.class);
+		LocalDateTime base = LocalDateTime.now().minusDays(365);
+		List<Object[]> rows = new ArrayList<>();
+		for (long i = existing; i < RECIPE_COUNT; i++) {
+			Timestamp createdAt = Timestamp.valueOf(base.plusSeconds(i));
+			rows.add(new Object[] {nextId++, user.getId(), "레시피 " + i, "내용 " + i, i % 100, createdAt, createdAt});
+			if (rows.size() == 1_000) {
+				insert(rows);
+				rows.clear();
+			}
+		}
+		if (!rows.isEmpty()) {
+			insert(rows);
+		}
+		idSequenceInitializer.synchronize();
+	}
+
+	private void insert(List<Object[]> rows) {
+		jdbcTemplate.batchUpdate(
+			"insert into recipe (id, user_id, title, content, recipe_likes, created_at, modified_at) values (?, ?, ?, ?, ?, ?, ?)",
+			rows);
+	}
+
+	@Test
+	@DisplayName("OFFSET 페이지네이션 vs 커서 페이지네이션")
+	void compareOffsetAndCursor() {
+		// 10,000 페이지 직전 행으로 커서 생성 (실제 클라이언트는 이전 응답의 next 를 그대로 사용)
+		Recipe beforeDeepPage = recipeRepository.findFeedOrderByCreatedAt(
+			PageRequest.of(DEEP_PAGE - 1, PAGE_SIZE)).get(PAGE_SIZE - 1);
+		String deepCursor = new PageCursor("createdAt", beforeDeepPage.getCreatedAt().toString(),
+			beforeDeepPage.getId()).encode();
+
+		report("offset page 1", () -> recipeService.getAllRecipe(0, "createdAt"));
+		report("offset page " + DEEP_PAGE, () -> recipeService.getAllRecipe(DEEP_PAGE - 1, "createdAt"));
+		report("cursor page 1", () -> recipeService.getRecipeFeed("createdAt", null));
+		report("cursor page " + DEEP_PAGE, () -> recipeService.getRecipeFeed("createdAt", deepCursor));
+	}
+
+	@Test
+	@DisplayName("정렬마다 filesort 없이 인덱스 순서로 조회")
+	void sortOrdersUseIndex() {
+		for (RecipeSort sort : RecipeSort.values()) {
+			// 정렬 컬럼, 사용해야 하는 인덱스 (Recipe 의 @Index)
+			String[] expected = switch (sort) {
+				case NEWEST -> new String[] {"created_at", "idx_recipe_created_at_id"};
+				case MOST_LIKED -> new String[] {"recipe_likes", "idx_recipe_likes_id"};
+				case RECENTLY_MODIFIED -> new String[] {"modified_at", "idx_recipe_modified_at_id"};
+				case MOST_COMMENTED -> new String[] {"comment_count", "idx_recipe_comment_count_id"};
+			};
+			// getAllRecipe 가 만드는 쿼리와 같은 형태 (작성자 join, 숨긴 레시피 제외)
+			for (int offset : new int[] {0, 100 * PAGE_SIZE}) {
+				List<Map<String, Object>> plan = jdbcTemplate.queryForList(
+					"explain select * from recipe r join users u on u.id = r.user_id where r.deleted = false "
+						+ "order by r." + expected[0] + " desc, r.id desc limit " + PAGE_SIZE + " offset " + offset);
+				System.out.printf("%-18s offset %5d : %s%n", sort, offset, plan);
+
+				Map<String, Object> recipeRow = plan.stream()
+					.filter(row -> "r".equals(row.get("table")))
+					.findFirst().orElseThrow();
+				assertEquals(expected[1], recipeRow.get("key"), sort.name());
+				plan.forEach(row -> assertFalse(String.valueOf(row.get("Extra")).contains("Using filesort"), sort.name()));
+			}
+
+			report(sort + " page 1", () -> recipeService.getAllRecipe(0, sort.getProperty()));
+			report(sort + " page 100", () -> recipeService.getAllRecipe(99, sort.getProperty()));
+		}
+	}
+
+	private void report(String name, Supplier<?> call) {
+		// JIT, 커넥션 풀, DB 버퍼 워밍업
+		for (int i = 0; i < 5; i++) {
+			transactionTemplate.execute(status -> call.get());
+		}
+
+		long[] elapsed = new long[ROUNDS];
+		for (int i = 0; i < ROUNDS; i++) {
+			long start = System.nanoTime();
+			transactionTemplate.execute(status -> call.get());
+			elapsed[i] = System.nanoTime() - start;
+		}
+		Arrays.sort(elapsed);
+		System.out.printf("%-22s p50 = %8.2f ms, p95 = %8.2f ms%n", name,
+			elapsed[ROUNDS / 2] / 1_000_000.0, elapsed[ROUNDS * 95 / 100] / 1_000_000.0);
+	}
+}
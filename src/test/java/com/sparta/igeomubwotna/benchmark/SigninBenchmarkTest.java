@@ -0,0 +1,127 @@
+package com.sparta.igeomubwotna.benchmark;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.Arrays;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.sparta.igeomubwotna.entity.User;
+import com.sparta.igeomubwotna.jwt.JwtUtil;
+import com.sparta.igeomubwotna.repository.UserRepository;
+import com.sparta.igeomubwotna.security.UserDetailsServiceImpl;
+
+import jakarta.persistence.EntityManagerFactory;
+
+// 로그인 한 번에 실행되는 쿼리 수와 응답 시간
+// 이전 방식(인증 조회 + 탈퇴 확인 조회 + RefreshToken 저장용 조회, 엔티티 save)은 같은 순서로 저장소를 호출해서 비교
+// 실행: ./gradlew benchmark (측정용 회원 benchmarksignin 은 다음 실행에서 다시 쓰도록 남겨 둠)
+@Tag("benchmark")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@AutoConfigureMockMvc
+@SpringBootTest(properties = {
+	"spring.jpa.properties.hibernate.show_sql=false",
+	"spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class SigninBenchmarkTest {
+
+	private static final String USER_ID = "benchmarksignin";
+	private static final String PASSWORD = "Benchmark11!";
+	private static final String SIGNIN_BODY = "{\"userId\": \"" + USER_ID + "\", \"password\": \"" + PASSWORD + "\"}";
+	private static final int ROUNDS = 50;
+
+	@Autowired
+	private MockMvc mvc;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private UserDetailsServiceImpl userDetailsService;
+
+	@Autowired
+	private PasswordEncoder passwordEncoder;
+
+	@Autowired
+	private JwtUtil jwtUtil;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	private Statistics statistics;
+
+	@BeforeAll
+	void seed() {
+		if (userRepository.findByUserId(USER_ID).isEmpty()) {
+			userRepository.save(new User(USER_ID, passwordEncoder.encode(PASSWORD), "benchmark",
+				"benchmarksignin@igeo.com", "benchmark"));
+		}
+		statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+	}
+
+	@Test
+	@DisplayName("로그인 한 번에 사용자 조회 1회 + RefreshToken UPDATE 1회")
+	void signinQueryCount() throws Exception {
+		// JIT, 커넥션 풀, DB 버퍼 워밍업
+		for (int i = 0; i < 5; i++) {
+			signin();
+		}
+
+		long[] elapsed = new long[ROUNDS];
+		statistics.clear();
+		for (int i = 0; i < ROUNDS; i++) {
+			long start = System.nanoTime();
+			signin();
+			elapsed[i] = System.nanoTime() - start;
+		}
+		double perLogin = (double)statistics.getPrepareStatementCount() / ROUNDS;
+
+		statistics.clear();
+		for (int i = 0; i < ROUNDS; i++) {
+			legacySignin();
+		}
+		double legacyPerLogin = (double)statistics.getPrepareStatementCount() / ROUNDS;
+
+		Arrays.sort(elapsed);
+		// 응답 시간은 대부분 BCrypt 비밀번호 확인
+		System.out.printf("signin p50 = %8.2f ms, p95 = %8.2f ms%n",
+			elapsed[ROUNDS / 2] / 1_000_000.0, elapsed[ROUNDS * 95 / 100] / 1_000_000.0);
+		System.out.printf("queries per login : before = %.1f, after = %.1f%n", legacyPerLogin, perLogin);
+
+		assertEquals(2.0, perLogin);
+		assertTrue(legacyPerLogin >= 4.0);
+	}
+
+	private void signin() throws Exception {
+		mvc.perform(post("/api/user/signin")
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(SIGNIN_BODY))
+			.andExpect(status().isOk())
+			.andExpect(header().exists(JwtUtil.ACCESS_HEADER));
+	}
+
+	// 이전 JwtAuthenticationFilter 의 저장소 호출 순서 (비밀번호 확인과 응답 작성은 제외)
+	private void legacySignin() {
+		userDetailsService.loadUserByUsername(USER_ID);
+		userRepository.findByUserId(USER_ID).get().isWithdrawn();
+		User user = userRepository.findByUserId(USER_ID).get();
+		user.updateRefreshToken(jwtUtil.createRefreshToken(USER_ID));
+		userRepository.save(user);
+	}
+}
@@ -31,20 +31,6 @@ public class CommentTest {
 		assertEquals(user, comment.getUser());
 	}
 
-	@Test
-	@DisplayName("좋아요 추가 테스트")
-	void testAddLike() {
-		comment.addLike();
-		assertEquals(1L, comment.getLikeCount());
-	}
-
-	@Test
-	@DisplayName("좋아요 감소 테스트")
-	void testMinusLike() {
-		comment.minusLike();
-		assertEquals(-1L, comment.getLikeCount());
-	}
-
 	@Test
 	@DisplayName("Comment 업데이트 테스트")
 	void testUpdate() {
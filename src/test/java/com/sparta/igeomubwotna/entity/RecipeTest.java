@@ -27,20 +27,6 @@ public class RecipeTest {
 		assertEquals(user, recipe.getUser());
 	}
 
-	@Test
-	@DisplayName("좋아요 추가 테스트")
-	void testAddLike() {
-		recipe.addLike();
-		assertEquals(1L, recipe.getRecipeLikes());
-	}
-
-	@Test
-	@DisplayName("좋아요 감소 테스트")
-	void testMinusLike() {
-		recipe.minusLike();
-		assertEquals(-1L, recipe.getRecipeLikes());
-	}
-
 	@Test
 	@DisplayName("Recipe 업데이트 테스트 - 제목만 업데이트")
 	void testUpdateTitle() {
@@ -0,0 +1,114 @@
+package com.sparta.igeomubwotna.filter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+import java.util.Base64;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.ProviderManager;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.sparta.igeomubwotna.dto.SigninRequestDto;
+import com.sparta.igeomubwotna.entity.User;
+import com.sparta.igeomubwotna.jwt.JwtUtil;
+import com.sparta.igeomubwotna.repository.UserRepository;
+import com.sparta.igeomubwotna.security.UserDetailsServiceImpl;
+import com.sparta.igeomubwotna.security.UserPrincipalCache;
+
+// 로그인 1회당 DB 접근 횟수 확인 (사용자 조회 1회 + refreshToken UPDATE 1회)
+@ExtendWith(MockitoExtension.class)
+class JwtAuthenticationFilterTest {
+
+	@Mock
+	private UserRepository userRepository;
+
+	@Mock
+	private UserPrincipalCache principalCache;
+
+	private JwtAuthenticationFilter filter;
+
+	private User user;
+
+	@BeforeEach
+	void setUp() {
+		JwtUtil jwtUtil = new JwtUtil();
+		String secretKey = Base64.getEncoder().encodeToString("igeo-mubwotna-test-secret-key-0123456789".getBytes());
+		ReflectionTestUtils.setField(jwtUtil, "secretKey", secretKey);
+		ReflectionTestUtils.setField(jwtUtil, "verifiedCacheSize", 100L);
+		jwtUtil.init();
+
+		BCryptPasswordEncoder passwordEncoder = new BCryptPasswordEncoder(4);
+		DaoAuthenticationProvider provider = new DaoAuthenticationProvider();
+		provider.setUserDetailsService(new UserDetailsServiceImpl(userRepository, principalCache));
+		provider.setPasswordEncoder(passwordEncoder);
+
+		filter = new JwtAuthenticationFilter(jwtUtil, userRepository, principalCache,
+			Jackson2ObjectMapperBuilder.json().build().readerFor(SigninRequestDto.class));
+		filter.setAuthenticationManager(new ProviderManager(provider));
+
+		user = new User("123syihyun123", passwordEncoder.encode("Qkrtlgus11!"), "sihyun", "111lch_n9@df.com", "Hi");
+		user.setId(1L);
+	}
+
+	private MockHttpServletRequest signinRequest() {
+		MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/user/signin");
+		request.setContentType("application/json");
+		request.setContent("{\"userId\":\"123syihyun123\",\"password\":\"Qkrtlgus11!\"}".getBytes());
+		return request;
+	}
+
+	@Test
+	@DisplayName("로그인 성공 시 사용자 조회 1회, refreshToken UPDATE 1회만 실행")
+	void testSigninQueryCount() throws Exception {
+		given(userRepository.findByUserId("123syihyun123")).willReturn(Optional.of(user));
+		MockHttpServletRequest request = signinRequest();
+		MockHttpServletResponse response = new MockHttpServletResponse();
+
+		Authentication authentication = filter.attemptAuthentication(request, response);
+		filter.successfulAuthentication(request, response, new MockFilterChain(), authentication);
+
+		assertNotNull(response.getHeader(JwtUtil.ACCESS_HEADER));
+		assertEquals("123syihyun123", response.getHeader(JwtUtil.ACCESS_USERID));
+		verify(userRepository, times(1)).findByUserId("123syihyun123");
+		verify(userRepository, times(1)).updateRefreshToken(eq("123syihyun123"), anyString());
+		verify(userRepository, never()).save(user);
+		verifyNoMoreInteractions(userRepository);
+		verify(principalCache).evict("123syihyun123");
+	}
+
+	@Test
+	@DisplayName("탈퇴한 회원은 refreshToken을 저장하지 않음")
+	void testSigninWithdrawn() throws Exception {
+		user.withdraw();
+		given(userRepository.findByUserId("123syihyun123")).willReturn(Optional.of(user));
+		MockHttpServletRequest request = signinRequest();
+		MockHttpServletResponse response = new MockHttpServletResponse();
+
+		Authentication authentication = filter.attemptAuthentication(request, response);
+		filter.successfulAuthentication(request, response, new MockFilterChain(), authentication);
+
+		assertEquals("이미 탈퇴한 회원입니다.", response.getContentAsString());
+		verify(userRepository, never()).updateRefreshToken(anyString(), anyString());
+	}
+}
@@ -0,0 +1,95 @@
+package com.sparta.igeomubwotna.jwt;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.sparta.igeomubwotna.entity.User;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class AccessTokenRefresherTest {
+
+	private JwtUtil jwtUtil;
+
+	private AccessTokenRefresher refresher;
+
+	private User user;
+
+	@BeforeEach
+	void setUp() {
+		jwtUtil = new JwtUtil();
+		String secretKey = Base64.getEncoder().encodeToString("igeo-mubwotna-test-secret-key-0123456789".getBytes());
+		ReflectionTestUtils.setField(jwtUtil, "secretKey", secretKey);
+		ReflectionTestUtils.setField(jwtUtil, "verifiedCacheSize", 100L);
+		jwtUtil.init();
+
+		refresher = new AccessTokenRefresher(jwtUtil, new SimpleMeterRegistry(), 10);
+
+		user = new User("123syihyun123", "Qkrtlgus11!", "sihyun", "111lch_n9@df.com", "Hi");
+		user.setId(1L);
+		user.updateRefreshToken(jwtUtil.createRefreshToken(user.getUserId()));
+	}
+
+	@Test
+	@DisplayName("동시 재발급 요청은 한 번만 발급하고 같은 토큰을 공유")
+	void testConcurrentRefreshCoalesced() throws Exception {
+		int requestCount = 10;
+		ExecutorService executor = Executors.newFixedThreadPool(requestCount);
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<String>> futures = new ArrayList<>();
+		List<MockHttpServletResponse> responses = new ArrayList<>();
+
+		for (int i = 0; i < requestCount; i++) {
+			MockHttpServletResponse response = new MockHttpServletResponse();
+			responses.add(response);
+			futures.add(executor.submit(() -> {
+				start.await();
+				return refresher.refresh(user, response);
+			}));
+		}
+		start.countDown();
+
+		Set<String> tokens = new HashSet<>();
+		for (Future<String> future : futures) {
+			tokens.add(future.get());
+		}
+		executor.shutdown();
+
+		assertEquals(1, tokens.size());
+		String token = tokens.iterator().next();
+		assertNotNull(token);
+		for (MockHttpServletResponse response : responses) {
+			assertEquals(token, response.getHeader(JwtUtil.ACCESS_HEADER));
+		}
+		assertEquals(1.0, refresher.getPerformedCount());
+		assertEquals(requestCount - 1, refresher.getCoalescedCount());
+	}
+
+	@Test
+	@DisplayName("RefreshToken이 없으면 재발급하지 않음")
+	void testRefreshWithoutRefreshToken() {
+		user.updateRefreshToken(null);
+		MockHttpServletResponse response = new MockHttpServletResponse();
+
+		assertNull(refresher.refresh(user, response));
+		assertNull(response.getHeader(JwtUtil.ACCESS_HEADER));
+		assertEquals(0.0, refresher.getPerformedCount());
+	}
+}
@@ -0,0 +1,133 @@
+package com.sparta.igeomubwotna.jwt;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Base64;
+import java.util.Date;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.sparta.igeomubwotna.entity.User;
+import com.sparta.igeomubwotna.entity.UserStatusEnum;
+
+import com.sparta.igeomubwotna.jwt.TokenValidationResult.FailureReason;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+
+class JwtUtilTest {
+
+	private JwtUtil jwtUtil;
+
+	private static final String SECRET = "igeo-mubwotna-test-secret-key-0123456789";
+
+	private User user;
+
+	@BeforeEach
+	void setUp() {
+		jwtUtil = new JwtUtil();
+		String secretKey = Base64.getEncoder().encodeToString(SECRET.getBytes());
+		ReflectionTestUtils.setField(jwtUtil, "secretKey", secretKey);
+		ReflectionTestUtils.setField(jwtUtil, "verifiedCacheSize", 100L);
+		jwtUtil.init();
+
+		user = new User("123syihyun123", "Qkrtlgus11!", "sihyun", "111lch_n9@df.com", "Hi");
+		user.setId(1L);
+		user.increaseTokenGeneration();
+	}
+
+	private String stripPrefix(String token) {
+		return token.substring(JwtUtil.BEARER_PREFIX.length());
+	}
+
+	@Test
+	@DisplayName("AccessToken에 사용자 상태와 토큰 세대 claim 포함")
+	void testCreateAccessTokenClaims() {
+		String accessToken = jwtUtil.createAccessToken(user);
+
+		assertTrue(accessToken.startsWith(JwtUtil.BEARER_PREFIX));
+
+		Claims claims = jwtUtil.getStatelessClaims(stripPrefix(accessToken));
+
+		assertNotNull(claims);
+		assertEquals("123syihyun123", claims.getSubject());
+		assertEquals(1L, claims.get(JwtUtil.CLAIM_USER_PK, Long.class));
+		assertEquals(UserStatusEnum.ACTIVE.name(), claims.get(JwtUtil.CLAIM_STATUS, String.class));
+		assertEquals(1L, claims.get(JwtUtil.CLAIM_TOKEN_GENERATION, Long.class));
+	}
+
+	@Test
+	@DisplayName("상태 claim이 없는 토큰은 stateless 인가 불가")
+	void testStatelessClaimsMissing() {
+		String refreshToken = jwtUtil.createRefreshToken(user.getUserId());
+
+		assertNull(jwtUtil.getStatelessClaims(refreshToken));
+	}
+
+	@Test
+	@DisplayName("잘못된 토큰은 stateless 인가 불가")
+	void testStatelessClaimsInvalid() {
+		assertNull(jwtUtil.getStatelessClaims("invalid.token.value"));
+	}
+
+	@Test
+	@DisplayName("검증된 토큰은 캐시된 Claims 재사용")
+	void testValidateAndExtractCached() {
+		String accessToken = stripPrefix(jwtUtil.createAccessToken(user));
+
+		TokenValidationResult first = jwtUtil.validateAndExtract(accessToken);
+		TokenValidationResult second = jwtUtil.validateAndExtract(accessToken);
+
+		assertTrue(first.isValid());
+		assertTrue(second.isValid());
+		assertSame(first.getClaims(), second.getClaims());
+	}
+
+	@Test
+	@DisplayName("만료된 토큰은 EXPIRED")
+	void testValidateAndExtractExpired() {
+		Date past = new Date(System.currentTimeMillis() - 60_000L);
+		String expiredToken = Jwts.builder()
+			.setSubject(user.getUserId())
+			.setIssuedAt(past)
+			.setExpiration(past)
+			.signWith(Keys.hmacShaKeyFor(SECRET.getBytes()), SignatureAlgorithm.HS256)
+			.compact();
+
+		TokenValidationResult result = jwtUtil.validateAndExtract(expiredToken);
+
+		assertFalse(result.isValid());
+		assertTrue(result.isExpired());
+	}
+
+	@Test
+	@DisplayName("다른 키로 서명된 토큰은 INVALID_SIGNATURE")
+	void testValidateAndExtractInvalidSignature() {
+		String otherToken = Jwts.builder()
+			.setSubject(user.getUserId())
+			.setExpiration(new Date(System.currentTimeMillis() + 60_000L))
+			.signWith(Keys.hmacShaKeyFor("another-secret-key-for-test-0123456789ab".getBytes()), SignatureAlgorithm.HS256)
+			.compact();
+
+		TokenValidationResult result = jwtUtil.validateAndExtract(otherToken);
+
+		assertFalse(result.isValid());
+		assertEquals(FailureReason.INVALID_SIGNATURE, result.getFailureReason());
+	}
+
+	@Test
+	@DisplayName("빈 토큰은 EMPTY")
+	void testValidateAndExtractEmpty() {
+		assertEquals(FailureReason.EMPTY, jwtUtil.validateAndExtract("").getFailureReason());
+	}
+}
@@ -0,0 +1,31 @@
+package com.sparta.igeomubwotna.jwt;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class TokenRevocationStoreTest {
+
+	private final TokenRevocationStore revocationStore = new TokenRevocationStore(100);
+
+	@Test
+	@DisplayName("로그아웃 이전 세대의 토큰만 거부")
+	void testRevoke() {
+		revocationStore.revoke("123syihyun123", 2L);
+
+		assertTrue(revocationStore.isRevoked("123syihyun123", 1L));
+		assertFalse(revocationStore.isRevoked("123syihyun123", 2L));
+		assertFalse(revocationStore.isRevoked("otheruser123", 0L));
+	}
+
+	@Test
+	@DisplayName("세대 값은 낮아지지 않음")
+	void testRevokeKeepsHighestGeneration() {
+		revocationStore.revoke("123syihyun123", 3L);
+		revocationStore.revoke("123syihyun123", 2L);
+
+		assertTrue(revocationStore.isRevoked("123syihyun123", 2L));
+	}
+}
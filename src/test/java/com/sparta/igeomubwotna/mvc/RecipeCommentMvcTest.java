@@ -7,6 +7,8 @@ import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
@@ -14,6 +16,7 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -36,6 +39,7 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.mapping.JpaMetamodelMappingContext;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -57,6 +61,7 @@ import com.sparta.igeomubwotna.entity.Recipe;
 import com.sparta.igeomubwotna.entity.User;
 import com.sparta.igeomubwotna.security.UserDetailsImpl;
 import com.sparta.igeomubwotna.service.CommentService;
+import com.sparta.igeomubwotna.service.RecipeImportService;
 import com.sparta.igeomubwotna.service.RecipeService;
 
 @WebMvcTest(  //Controller 테스트 가능
@@ -84,6 +89,9 @@ class RecipeCommentMvcTest {
 	@MockBean  //RecipeController에서 사용되므로 주입해주기 위한 Bean
 	RecipeService recipeService;
 
+	@MockBean  //RecipeController에서 사용되므로 주입해주기 위한 Bean
+	RecipeImportService recipeImportService;
+
 	@MockBean  //CommentController에서 사용되므로 주입해주기 위한 Bean
 	CommentService commentService;
 
@@ -176,7 +184,7 @@ class RecipeCommentMvcTest {
 		User user = mockUserSetup();  //회원필요
 		Long recipeId = 1L;
 
-		given(recipeService.deleteRecipe(eq(recipeId), any(User.class))).willReturn(ResponseEntity.status(HttpStatus.OK).body(recipeId + " 번 삭제 완료"));
+		given(recipeService.deleteRecipe(eq(recipeId), any(User.class), eq(false))).willReturn(ResponseEntity.status(HttpStatus.OK).body(recipeId + " 번 삭제 완료"));
 
 		// when - then
 		mvc.perform(delete("/api/recipe/{recipeId}", recipeId)
@@ -213,6 +221,51 @@ class RecipeCommentMvcTest {
 	}
 
 
+	@Test
+	@DisplayName("게시물 조회 - ETag 가 같으면 본문 없이 304")
+	void testGetRecipeNotModified() throws Exception {
+		// given
+		mockUserSetup();
+		Long recipeId = 1L;
+		String eTag = "W/\"abc\"";
+
+		given(recipeService.getRecipeETag(eq(recipeId))).willReturn(eTag);
+
+		// when - then
+		mvc.perform(get("/api/recipe/{recipeId}", recipeId)
+				.header(HttpHeaders.IF_NONE_MATCH, eTag)
+			)
+			.andExpect(status().isNotModified())
+			.andExpect(header().string(HttpHeaders.ETAG, eTag))
+			.andExpect(content().string(""))
+			.andDo(print());
+
+		verify(recipeService, never()).getRecipe(anyLong());
+	}
+
+	@Test
+	@DisplayName("댓글 조회 - ETag 가 다르면 새 ETag 와 본문 응답")
+	void testGetCommentModified() throws Exception {
+		// given
+		User user = mockUserSetup();
+		Long recipeId = 1L;
+		String eTag = "W/\"new\"";
+		List<CommentResponseDto> comments = List.of(
+			new CommentResponseDto(Long.valueOf(1L), "맛있겠다~~", user.getUserId(), LocalDateTime.now(), Long.valueOf(0L)));
+
+		given(commentService.getCommentsETag(eq(recipeId), any(), any())).willReturn(eTag);
+		given(commentService.getComment(anyLong(), any())).willReturn(comments);
+
+		// when - then
+		mvc.perform(get("/api/recipe/{recipeId}/comment", recipeId)
+				.header(HttpHeaders.IF_NONE_MATCH, "W/\"old\"")
+			)
+			.andExpect(status().isOk())
+			.andExpect(header().string(HttpHeaders.ETAG, eTag))
+			.andExpect(jsonPath("$[0].content").value("맛있겠다~~"))
+			.andDo(print());
+	}
+
 	@Test
 	@DisplayName("레시피 전체 조회")
 	void testGetAllRecipe() throws Exception {
@@ -226,7 +279,7 @@ class RecipeCommentMvcTest {
 		List<Recipe> recipes = Arrays.asList(recipe1, recipe2);
 		Page<Recipe> recipePage = new PageImpl<>(recipes, PageRequest.of(page - 1, 10, Sort.by(Sort.Direction.DESC, sortBy)), recipes.size());
 
-		given(recipeService.getAllRecipe(anyInt(), anyString())).willReturn(ResponseEntity.status(HttpStatus.OK).body(recipePage.map(RecipeResponseDto::new)));
+		given(recipeService.getAllRecipe(anyInt(), anyString(), any())).willReturn(ResponseEntity.status(HttpStatus.OK).body(recipePage.map(RecipeResponseDto::new)));
 
 		// when - then
 		mvc.perform(get("/api/recipe/")
@@ -368,7 +421,7 @@ class RecipeCommentMvcTest {
 		List<CommentResponseDto> commentResponseDtoList = new ArrayList<>();
 		commentResponseDtoList.add(responseDto);
 
-		given(commentService.getComment(anyLong())).willReturn(commentResponseDtoList);
+		given(commentService.getComment(anyLong(), any())).willReturn(commentResponseDtoList);
 
 		// when - then
 		mvc.perform(get("/api/recipe/{recipeId}/comment", recipeId)
@@ -0,0 +1,40 @@
+package com.sparta.igeomubwotna.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+class RecipeSortTest {
+
+	@Test
+	@DisplayName("요청 값과 기존 필드 이름 모두 같은 정렬로")
+	void testFrom() {
+		assertEquals(RecipeSort.MOST_COMMENTED, RecipeSort.from("most-commented"));
+		assertEquals(RecipeSort.MOST_COMMENTED, RecipeSort.from("commentCount"));
+		assertEquals(RecipeSort.NEWEST, RecipeSort.from("createdAt"));
+	}
+
+	@Test
+	@DisplayName("정렬 값이 같으면 최신 id 먼저")
+	void testToSort() {
+		Sort sort = RecipeSort.RECENTLY_MODIFIED.toSort();
+
+		assertEquals(Sort.Direction.DESC, sort.getOrderFor("modifiedAt").getDirection());
+		assertEquals(Sort.Direction.DESC, sort.getOrderFor("id").getDirection());
+	}
+
+	@Test
+	@DisplayName("지원하지 않는 정렬이면 400")
+	void testFromUnsupported() {
+		ResponseStatusException exception = assertThrows(ResponseStatusException.class, () -> RecipeSort.from("content"));
+		assertEquals(HttpStatus.BAD_REQUEST, exception.getStatusCode());
+
+		assertEquals(HttpStatus.BAD_REQUEST,
+			assertThrows(ResponseStatusException.class, () -> RecipeSort.from(null)).getStatusCode());
+	}
+}
@@ -0,0 +1,95 @@
+package com.sparta.igeomubwotna.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class RecipeSearchIndexTest {
+
+	private RecipeSearchIndex recipeSearchIndex;
+
+	@BeforeEach
+	void setUp() {
+		recipeSearchIndex = new RecipeSearchIndex();
+		recipeSearchIndex.index(1L, "김치찌개", "김치를 볶고 물을 붓는다");
+		recipeSearchIndex.index(2L, "된장찌개", "된장을 풀고 두부를 넣는다");
+		recipeSearchIndex.index(3L, "계란말이", "김치를 잘게 썰어 넣어도 된다");
+	}
+
+	@Test
+	@DisplayName("한글은 두 글자씩, 영문과 숫자는 단어 단위로 자름")
+	void testTokenize() {
+		assertEquals(List.of("김치", "치찌", "찌개"), BigramTokenizer.tokenize("김치찌개"));
+		assertEquals(List.of("spam", "김밥", "2", "인분"), BigramTokenizer.tokenize("SPAM김밥 2인분"));
+		assertEquals(List.of("밥"), BigramTokenizer.tokenize("밥!"));
+	}
+
+	@Test
+	@DisplayName("제목에 검색어가 있는 레시피가 본문에만 있는 레시피보다 앞")
+	void testSearchRanking() {
+		RecipeSearchIndex.SearchResult result = recipeSearchIndex.search("김치", 0, 10);
+
+		assertEquals(List.of(1L, 3L), result.recipeIds());
+		assertEquals(2, result.total());
+	}
+
+	@Test
+	@DisplayName("띄어쓰기가 달라도 검색되고, offset/limit 으로 페이지를 나눔")
+	void testSearchPaging() {
+		RecipeSearchIndex.SearchResult result = recipeSearchIndex.search("찌 개", 0, 10);
+		assertEquals(0, result.total());
+
+		result = recipeSearchIndex.search("찌개", 1, 1);
+		assertEquals(2, result.total());
+		assertEquals(1, result.recipeIds().size());
+		assertEquals(List.of(), recipeSearchIndex.search("찌개", 10, 10).recipeIds());
+	}
+
+	@Test
+	@DisplayName("수정하면 이전 토큰은 빠지고, 삭제하면 검색되지 않음")
+	void testUpdateAndRemove() {
+		recipeSearchIndex.index(1L, "부대찌개", "햄과 소시지를 넣는다");
+		assertEquals(List.of(3L), recipeSearchIndex.search("김치", 0, 10).recipeIds());
+
+		recipeSearchIndex.remove(2L);
+		assertEquals(List.of(1L), recipeSearchIndex.search("찌개", 0, 10).recipeIds());
+		assertFalse(recipeSearchIndex.contains(2L));
+		assertEquals(2, recipeSearchIndex.size());
+	}
+
+	@Test
+	@DisplayName("스냅샷으로 저장했다가 읽으면 같은 검색 결과")
+	void testSnapshotRoundTrip() throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		recipeSearchIndex.writeSnapshot(new DataOutputStream(bytes));
+
+		RecipeSearchIndex loaded = new RecipeSearchIndex();
+		loaded.readSnapshot(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+
+		assertEquals(3, loaded.size());
+		assertTrue(loaded.contains(3L));
+		assertEquals(recipeSearchIndex.search("김치 넣는다", 0, 10), loaded.search("김치 넣는다", 0, 10));
+	}
+
+	@Test
+	@DisplayName("형식이 다른 스냅샷은 읽지 않음")
+	void testReadInvalidSnapshot() {
+		byte[] invalid = {0, 0, 0, 1, 0, 0, 0, 1};
+
+		assertThrows(IOException.class, () ->
+			recipeSearchIndex.readSnapshot(new DataInputStream(new ByteArrayInputStream(invalid))));
+		assertEquals(3, recipeSearchIndex.size());
+	}
+}
@@ -0,0 +1,63 @@
+package com.sparta.igeomubwotna.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class TitleSuggestionsTest {
+
+	private final TitleSuggestions suggestions = TitleSuggestions.builder()
+		.add("김치찌개", 10)
+		.add("김치볶음밥", 30)
+		.add("김밥", 20)
+		.add("김치전", 5)
+		.add("된장찌개", 50)
+		.add("Kimchi Fried Rice", 7)
+		.build();
+
+	@Test
+	@DisplayName("접두어가 같은 제목을 좋아요 수가 많은 순으로 최대 limit 개")
+	void testSuggest() {
+		assertEquals(List.of("김치볶음밥", "김밥", "김치찌개", "김치전"), suggestions.suggest("김", 10));
+		assertEquals(List.of("김치볶음밥", "김치찌개"), suggestions.suggest("김치", 2));
+		assertEquals(List.of(), suggestions.suggest("라면", 10));
+		assertEquals(List.of(), suggestions.suggest(" ", 10));
+	}
+
+	@Test
+	@DisplayName("입력 중인 자모, 대소문자, 공백 차이는 무시")
+	void testSuggestNormalized() {
+		assertEquals(List.of("김치볶음밥", "김치찌개", "김치전"), suggestions.suggest("김ㅊ", 10));
+		assertEquals(List.of("Kimchi Fried Rice"), suggestions.suggest("kimchi  f", 10));
+	}
+
+	@Test
+	@DisplayName("같은 제목은 하나로 합쳐서 좋아요 수를 더함")
+	void testDuplicateTitles() {
+		TitleSuggestions merged = TitleSuggestions.builder()
+			.add("김치찌개", 10)
+			.add("김치볶음밥", 15)
+			.add(" 김치찌개", 8)
+			.build();
+
+		assertEquals(2, merged.size());
+		assertEquals(List.of("김치찌개", "김치볶음밥"), merged.suggest("김치", 10));
+	}
+
+	@Test
+	@DisplayName("제목이 많아도 가중치 순서대로 꺼냄")
+	void testSuggestLargeRange() {
+		TitleSuggestions.Builder builder = TitleSuggestions.builder();
+		for (int i = 0; i < 1_000; i++) {
+			builder.add("레시피 " + i, i % 97);
+		}
+		TitleSuggestions many = builder.build();
+
+		List<String> result = many.suggest("레시피", 3);
+
+		assertEquals(List.of("레시피 193", "레시피 290", "레시피 387"), result);
+	}
+}
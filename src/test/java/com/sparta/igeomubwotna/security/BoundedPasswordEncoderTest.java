@@ -0,0 +1,55 @@
+package com.sparta.igeomubwotna.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class BoundedPasswordEncoderTest {
+
+	@Test
+	@DisplayName("전용 스레드 풀에서 인코딩 및 비교")
+	void testEncodeAndMatches() throws Exception {
+		BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(4, 1, 4, 3000, 1, new SimpleMeterRegistry());
+
+		String encoded = encoder.encode("Qkrtlgus11!");
+
+		assertTrue(encoder.matches("Qkrtlgus11!", encoded));
+		assertFalse(encoder.matches("wrongPassword1!", encoded));
+		encoder.destroy();
+	}
+
+	@Test
+	@DisplayName("cost 설정이 바뀐 해시는 재인코딩 대상")
+	void testUpgradeEncoding() throws Exception {
+		BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(4, 1, 4, 3000, 1, new SimpleMeterRegistry());
+
+		assertTrue(encoder.upgradeEncoding(new BCryptPasswordEncoder(5).encode("Qkrtlgus11!")));
+		assertFalse(encoder.upgradeEncoding(encoder.encode("Qkrtlgus11!")));
+		assertFalse(encoder.upgradeEncoding("notBcrypt"));
+		encoder.destroy();
+	}
+
+	@Test
+	@DisplayName("대기 시간을 넘기면 503으로 거절")
+	void testRejectWhenSaturated() throws Exception {
+		SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+		BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(14, 1, 1, 10, 2, meterRegistry);
+
+		PasswordHashingRejectedException exception = assertThrows(PasswordHashingRejectedException.class, () ->
+			encoder.encode("Qkrtlgus11!"));
+
+		assertEquals(HttpStatus.SERVICE_UNAVAILABLE, exception.getStatusCode());
+		assertEquals("2", exception.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+		assertEquals(1.0, meterRegistry.get("password.hash.rejected").counter().count());
+		encoder.destroy();
+	}
+}
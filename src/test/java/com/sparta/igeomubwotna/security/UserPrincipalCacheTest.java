@@ -0,0 +1,84 @@
+package com.sparta.igeomubwotna.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.sparta.igeomubwotna.entity.User;
+import com.sparta.igeomubwotna.repository.UserRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class UserPrincipalCacheTest {
+
+	@Mock
+	private UserRepository userRepository;
+
+	private UserPrincipalCache principalCache;
+
+	private User user;
+
+	@BeforeEach
+	void setUp() {
+		principalCache = new UserPrincipalCache(userRepository, new SimpleMeterRegistry(), 100, 60);
+
+		user = new User("123syihyun123", "Qkrtlgus11!", "sihyun", "111lch_n9@df.com", "Hi");
+		user.setId(1L);
+	}
+
+	@Test
+	@DisplayName("같은 사용자는 한 번만 DB에서 조회")
+	void testGetCachesUser() {
+		given(userRepository.findByUserId("123syihyun123")).willReturn(Optional.of(user));
+
+		assertTrue(principalCache.get("123syihyun123").isPresent());
+		assertTrue(principalCache.get("123syihyun123").isPresent());
+
+		verify(userRepository, times(1)).findByUserId("123syihyun123");
+		assertEquals(1, principalCache.getHitCount());
+		assertEquals(1, principalCache.getMissCount());
+	}
+
+	@Test
+	@DisplayName("evict 후에는 DB에서 다시 조회")
+	void testEvict() {
+		given(userRepository.findByUserId("123syihyun123")).willReturn(Optional.of(user));
+
+		principalCache.get("123syihyun123");
+		principalCache.evict("123syihyun123");
+		principalCache.get("123syihyun123");
+
+		verify(userRepository, times(2)).findByUserId("123syihyun123");
+	}
+
+	@Test
+	@DisplayName("존재하지 않는 사용자는 캐시하지 않음")
+	void testGetNotFound() {
+		given(userRepository.findByUserId("unknownuser1")).willReturn(Optional.empty());
+
+		assertFalse(principalCache.get("unknownuser1").isPresent());
+		assertFalse(principalCache.get("unknownuser1").isPresent());
+
+		verify(userRepository, times(2)).findByUserId("unknownuser1");
+	}
+
+	@Test
+	@DisplayName("userId가 없으면 조회하지 않음")
+	void testGetBlankUserId() {
+		assertFalse(principalCache.get(null).isPresent());
+		assertFalse(principalCache.get("").isPresent());
+	}
+}
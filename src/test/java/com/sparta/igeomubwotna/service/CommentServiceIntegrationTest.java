@@ -3,11 +3,15 @@ package com.sparta.igeomubwotna.service;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -19,16 +23,23 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
 import com.sparta.igeomubwotna.dto.CommentRequestDto;
 import com.sparta.igeomubwotna.dto.CommentResponseDto;
+import com.sparta.igeomubwotna.dto.CursorResponseDto;
 import com.sparta.igeomubwotna.entity.Comment;
 import com.sparta.igeomubwotna.entity.Recipe;
 import com.sparta.igeomubwotna.entity.User;
 import com.sparta.igeomubwotna.repository.CommentRepository;
+import com.sparta.igeomubwotna.util.PageCursor;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 @ExtendWith(MockitoExtension.class)
 class CommentServiceIntegrationTest {
@@ -39,6 +50,18 @@ class CommentServiceIntegrationTest {
 	@Mock
 	private RecipeService recipeService;
 
+	@Mock
+	private LikeCountAccumulator likeCountAccumulator;
+
+	@Mock
+	private LikeLookupService likeLookupService;
+
+	@Spy
+	private CommentLookupCache commentLookupCache = new CommentLookupCache(new SimpleMeterRegistry(), 1_000, 60, 5);
+
+	@Mock
+	private TrendingRecipeTracker trendingRecipeTracker;
+
 	@InjectMocks
 	private CommentService commentService;
 
@@ -72,15 +95,16 @@ class CommentServiceIntegrationTest {
 		assertNotNull(result);
 		assertEquals(responseEntity.getStatusCode(), result.getStatusCode());
 		assertEquals(responseEntity.getBody(), result.getBody());
+		verify(recipeService).addCommentCount(recipe.getId(), 1L);
 	}
 
 	@Test
-	@DisplayName("댓글 조회")
+	@DisplayName("댓글 조회 - 파라미터가 없으면 오래된 순으로 최대 100개")
 	void testGetComment() {
 		List<Comment> comments = new ArrayList<>();
 		comments.add(comment);
 
-		given(commentRepository.findByRecipeId(anyLong())).willReturn(comments);
+		given(commentRepository.findOldest(recipe.getId(), PageRequest.of(0, 100))).willReturn(comments);
 
 		List<CommentResponseDto> commentResponseDtoList = commentService.getComment(recipe.getId());
 
@@ -141,4 +165,68 @@ class CommentServiceIntegrationTest {
 		assertEquals(comment.getContent(), foundComment.getContent());
 	}
 
+	private List<Comment> likedComments(int count) {
+		List<Comment> comments = new ArrayList<>();
+		for (int i = 0; i < count; i++) {
+			Comment likedComment = new Comment(new CommentRequestDto("comment " + i), recipe, user);
+			likedComment.setId((long)(100 - i));
+			likedComment.setLikeCount((long)(count - i));
+			comments.add(likedComment);
+		}
+		return comments;
+	}
+
+	@Test
+	@DisplayName("댓글 커서 조회 - 좋아요 순")
+	void testGetCommentPageMostLiked() {
+		given(commentRepository.findMostLiked(eq(recipe.getId()), any(Pageable.class))).willReturn(likedComments(3));
+
+		CursorResponseDto<CommentResponseDto> result = commentService.getCommentPage(recipe.getId(), 2, null, "most-liked");
+
+		assertEquals(2, result.getContent().size());
+		PageCursor next = PageCursor.decode(result.getNext(), "most-liked");
+		assertEquals(2L, next.longValue());
+		assertEquals(99L, next.id());
+	}
+
+	@Test
+	@DisplayName("댓글 커서 조회 - 마지막 페이지")
+	void testGetCommentPageLastPage() {
+		String cursor = new PageCursor("most-liked", "2", 99L).encode();
+		given(commentRepository.findMostLikedAfterCursor(eq(recipe.getId()), eq(2L), eq(99L), any(Pageable.class)))
+			.willReturn(likedComments(1));
+
+		CursorResponseDto<CommentResponseDto> result = commentService.getCommentPage(recipe.getId(), 2, cursor, "most-liked");
+
+		assertEquals(1, result.getContent().size());
+		assertNull(result.getNext());
+	}
+
+	@Test
+	@DisplayName("댓글 커서 조회 실패 - 잘못된 정렬, limit")
+	void testGetCommentPageInvalid() {
+		assertThrows(IllegalArgumentException.class, () ->
+			commentService.getCommentPage(recipe.getId(), 20, null, "popular"));
+		assertThrows(IllegalArgumentException.class, () ->
+			commentService.getCommentPage(recipe.getId(), 0, null, "newest"));
+	}
+
+	@Test
+	@DisplayName("댓글 ETag - 페이지의 좋아요 수(반영 전 증감 포함), likedByMe, 내용이 바뀌면 달라짐")
+	void testGetCommentsETag() {
+		CommentResponseDto comment = new CommentResponseDto(1L, "맛있겠다", "sihyun", null, 3L);
+		String before = commentService.getCommentsETag(1L, List.of(comment), null);
+
+		CommentResponseDto pending = new CommentResponseDto(1L, "맛있겠다", "sihyun", null, 4L);
+		CommentResponseDto liked = new CommentResponseDto(1L, "맛있겠다", "sihyun", null, 3L);
+		liked.setLikedByMe(true);
+		CommentResponseDto edited = new CommentResponseDto(1L, "맛있어요", "sihyun", null, 3L);
+
+		assertEquals(before, commentService.getCommentsETag(1L, List.of(
+			new CommentResponseDto(1L, "맛있겠다", "sihyun", null, 3L)), null));
+		assertNotEquals(before, commentService.getCommentsETag(1L, List.of(pending), null));
+		assertNotEquals(before, commentService.getCommentsETag(1L, List.of(liked), null));
+		assertNotEquals(before, commentService.getCommentsETag(1L, List.of(edited), null));
+		assertNotEquals(before, commentService.getCommentsETag(1L, List.of(comment), "next"));
+	}
 }
@@ -0,0 +1,76 @@
+package com.sparta.igeomubwotna.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class IdLookupCacheTest {
+
+	private final RecipeLookupCache cache = new RecipeLookupCache(new SimpleMeterRegistry(), 1_000, 60, 5);
+
+	@Test
+	@DisplayName("같은 id 를 동시에 조회하면 DB 조회는 한 번")
+	void testConcurrentMissesShareOneLoad() throws Exception {
+		AtomicInteger loads = new AtomicInteger();
+		CountDownLatch start = new CountDownLatch(1);
+		ExecutorService executor = Executors.newFixedThreadPool(10);
+
+		List<Future<Optional<Long>>> results = new ArrayList<>();
+		for (int i = 0; i < 10; i++) {
+			results.add(executor.submit(() -> {
+				start.await();
+				return cache.getAuthorId(1L, id -> {
+					loads.incrementAndGet();
+					sleep();
+					return Optional.of(7L);
+				});
+			}));
+		}
+		start.countDown();
+		for (Future<Optional<Long>> result : results) {
+			assertEquals(Optional.of(7L), result.get());
+		}
+		executor.shutdown();
+
+		assertEquals(1, loads.get());
+	}
+
+	@Test
+	@DisplayName("없는 id 는 기록하고, 새로 저장되면 그 id 의 기록만 지움")
+	void testMissingIdsClearedOnSave() {
+		cache.getAuthorId(2L, id -> Optional.empty());
+		cache.getAuthorId(4L, id -> Optional.empty());
+		cache.putAuthorId(3L, 7L);
+
+		assertTrue(cache.isMissing(2L));
+		assertFalse(cache.isMissing(3L));
+
+		cache.clearMissing(List.of(2L, 3L));
+
+		assertFalse(cache.isMissing(2L));
+		assertTrue(cache.isMissing(4L));
+		assertEquals(Optional.of(7L), cache.getAuthorId(3L, id -> Optional.empty()));
+	}
+
+	private static void sleep() {
+		try {
+			Thread.sleep(100);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
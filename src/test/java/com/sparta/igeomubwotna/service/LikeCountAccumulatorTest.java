@@ -0,0 +1,102 @@
+package com.sparta.igeomubwotna.service;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class LikeCountAccumulatorTest {
+
+	@Mock
+	private JdbcTemplate jdbcTemplate;
+
+	@Mock
+	private RecipeResponseCache recipeResponseCache;
+
+	private LikeCountAccumulator accumulator;
+
+	@BeforeEach
+	void setUp() {
+		accumulator = new LikeCountAccumulator(jdbcTemplate, recipeResponseCache);
+	}
+
+	@Test
+	@DisplayName("동시 좋아요 증감을 모아 한 번의 배치 UPDATE로 반영")
+	void testConcurrentLikesFlushedOnce() throws Exception {
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		for (int i = 0; i < 1000; i++) {
+			executor.submit(() -> accumulator.addRecipeLike(1L, 1L));
+		}
+		executor.submit(() -> accumulator.addRecipeLike(1L, -1L));
+		executor.shutdown();
+		executor.awaitTermination(5, TimeUnit.SECONDS);
+
+		assertEquals(999L, accumulator.getPendingRecipeLikes(1L));
+
+		accumulator.flush();
+
+		ArgumentCaptor<List<Object[]>> captor = ArgumentCaptor.forClass(List.class);
+		verify(jdbcTemplate).batchUpdate(eq("update recipe set recipe_likes = coalesce(recipe_likes, 0) + ? where id = ?"),
+			captor.capture());
+		assertEquals(1, captor.getValue().size());
+		assertArrayEquals(new Object[] {999L, 1L}, captor.getValue().get(0));
+		assertEquals(0L, accumulator.getPendingRecipeLikes(1L));
+		verify(recipeResponseCache).evictAll(Set.of(1L));
+	}
+
+	@Test
+	@DisplayName("반영할 증감이 없으면 UPDATE 하지 않음")
+	void testFlushWithoutDelta() {
+		accumulator.flush();
+
+		verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList());
+	}
+
+	@Test
+	@DisplayName("UPDATE 하는 동안에도 증감이 조회되고, 그 사이 들어온 증감은 남음")
+	void testPendingVisibleDuringFlush() {
+		accumulator.addCommentLike(3L, 2L);
+		given(jdbcTemplate.batchUpdate(anyString(), anyList())).willAnswer(invocation -> {
+			assertEquals(2L, accumulator.getPendingCommentLikes(3L));
+			accumulator.addCommentLike(3L, 1L);
+			return new int[] {1};
+		});
+
+		accumulator.flush();
+
+		assertEquals(1L, accumulator.getPendingCommentLikes(3L));
+	}
+
+	@Test
+	@DisplayName("반영 실패 시 증감을 유지하여 다음 주기에 재시도")
+	void testFlushFailureKeepsDelta() {
+		accumulator.addCommentLike(3L, 2L);
+		given(jdbcTemplate.batchUpdate(anyString(), anyList()))
+			.willThrow(new DataAccessResourceFailureException("connection lost"));
+
+		accumulator.flush();
+
+		assertEquals(2L, accumulator.getPendingCommentLikes(3L));
+	}
+}
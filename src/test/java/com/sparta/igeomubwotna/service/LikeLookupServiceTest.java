@@ -0,0 +1,88 @@
+package com.sparta.igeomubwotna.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.sparta.igeomubwotna.repository.CommentLikesRepository;
+import com.sparta.igeomubwotna.repository.RecipeLikesRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class LikeLookupServiceTest {
+
+	@Mock
+	private RecipeLikesRepository recipeLikesRepository;
+
+	@Mock
+	private CommentLikesRepository commentLikesRepository;
+
+	private LikeLookupService likeLookupService;
+
+	@BeforeEach
+	void setUp() {
+		likeLookupService = new LikeLookupService(recipeLikesRepository, commentLikesRepository,
+			new SimpleMeterRegistry(), 10_000, 600);
+	}
+
+	@Test
+	@DisplayName("같은 페이지를 다시 조회하면 캐시에서 응답")
+	void testRepeatLookupServedFromCache() {
+		given(recipeLikesRepository.findLikedRecipeIds(1L, List.of(1L, 2L, 3L))).willReturn(List.of(2L));
+
+		assertEquals(Set.of(2L), likeLookupService.findLikedRecipeIds(1L, List.of(1L, 2L, 3L)));
+		assertEquals(Set.of(2L), likeLookupService.findLikedRecipeIds(1L, List.of(3L, 2L, 1L)));
+
+		verify(recipeLikesRepository, times(1)).findLikedRecipeIds(1L, List.of(1L, 2L, 3L));
+	}
+
+	@Test
+	@DisplayName("처음 보는 id 만 IN 쿼리로 조회")
+	void testOnlyUnknownIdsQueried() {
+		given(recipeLikesRepository.findLikedRecipeIds(1L, List.of(1L, 2L))).willReturn(List.of(1L));
+		given(recipeLikesRepository.findLikedRecipeIds(1L, List.of(3L))).willReturn(List.of(3L));
+
+		likeLookupService.findLikedRecipeIds(1L, List.of(1L, 2L));
+
+		assertEquals(Set.of(1L, 3L), likeLookupService.findLikedRecipeIds(1L, List.of(1L, 2L, 3L)));
+	}
+
+	@Test
+	@DisplayName("좋아요/해제하면 캐시의 해당 id 만 갱신")
+	void testLikeUpdatesCache() {
+		given(commentLikesRepository.findLikedCommentIds(1L, List.of(10L, 20L))).willReturn(List.of(10L));
+		likeLookupService.findLikedCommentIds(1L, List.of(10L, 20L));
+
+		likeLookupService.commentLiked(1L, 10L, false);
+		likeLookupService.commentLiked(1L, 20L, true);
+
+		assertEquals(Set.of(20L), likeLookupService.findLikedCommentIds(1L, List.of(10L, 20L)));
+		verify(commentLikesRepository).findLikedCommentIds(1L, List.of(10L, 20L));
+		verifyNoMoreInteractions(commentLikesRepository);
+	}
+
+	@Test
+	@DisplayName("알 수 없게 된 id 는 캐시에서 지우고 다음 조회 때 DB에서 확인")
+	void testForgetQueriesAgain() {
+		given(recipeLikesRepository.findLikedRecipeIds(1L, List.of(1L, 2L))).willReturn(List.of(1L));
+		given(recipeLikesRepository.findLikedRecipeIds(1L, List.of(2L))).willReturn(List.of(2L));
+		likeLookupService.findLikedRecipeIds(1L, List.of(1L, 2L));
+
+		likeLookupService.forgetRecipe(1L, 2L);
+
+		assertEquals(Set.of(1L, 2L), likeLookupService.findLikedRecipeIds(1L, List.of(1L, 2L)));
+	}
+}
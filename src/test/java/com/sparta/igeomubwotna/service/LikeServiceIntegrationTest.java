@@ -0,0 +1,212 @@
+package com.sparta.igeomubwotna.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verify;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import com.sparta.igeomubwotna.dto.CommentRequestDto;
+import com.sparta.igeomubwotna.entity.Comment;
+import com.sparta.igeomubwotna.entity.Recipe;
+import com.sparta.igeomubwotna.entity.User;
+import com.sparta.igeomubwotna.repository.CommentLikesRepository;
+import com.sparta.igeomubwotna.repository.RecipeLikesRepository;
+
+@ExtendWith(MockitoExtension.class)
+class LikeServiceIntegrationTest {
+
+	@Mock
+	private RecipeLikesRepository recipeLikesRepository;
+
+	@Mock
+	private CommentLikesRepository commentLikesRepository;
+
+	@Mock
+	private RecipeService recipeService;
+
+	@Mock
+	private CommentService commentService;
+
+	@Mock
+	private LikeCountAccumulator likeCountAccumulator;
+
+	@Mock
+	private LikeLookupService likeLookupService;
+
+	@Mock
+	private LikeWriteBehindQueue likeWriteBehindQueue;
+
+	@Mock
+	private TrendingRecipeTracker trendingRecipeTracker;
+
+	@InjectMocks
+	private LikeService likeService;
+
+	private User user;
+	private Recipe recipe;
+	private Comment comment;
+
+	@BeforeEach
+	void setUp() {
+		user = new User("123syihyun123", "Qkrtlgus11!", "sihyun", "111lch_n9@df.com", "Hi");
+		user.setId(1L);
+
+		User author = new User("otheruser", "password", "Other User", "other@example.com", "Hello");
+		author.setId(2L);
+
+		recipe = new Recipe(10L, author, "Recipe", "Content", 0L);
+
+		comment = new Comment(new CommentRequestDto("comment"), recipe, author);
+		comment.setId(20L);
+	}
+
+	@Test
+	@DisplayName("레시피 좋아요 (PUT) - 새로 추가된 경우에만 좋아요 수 증가")
+	void testLikeRecipe() {
+		given(recipeService.findAuthorId(10L)).willReturn(2L);
+		given(recipeLikesRepository.insertIfAbsent(1L, 10L)).willReturn(1);
+
+		ResponseEntity result = likeService.likeRecipe(10L, user);
+
+		assertEquals(HttpStatus.OK, result.getStatusCode());
+		verify(likeCountAccumulator).addRecipeLike(10L, 1L);
+	}
+
+	@Test
+	@DisplayName("레시피 좋아요 (PUT) - 이미 좋아요 상태면 좋아요 수 유지")
+	void testLikeRecipeAlreadyLiked() {
+		given(recipeService.findAuthorId(10L)).willReturn(2L);
+		given(recipeLikesRepository.insertIfAbsent(1L, 10L)).willReturn(0);
+
+		ResponseEntity result = likeService.likeRecipe(10L, user);
+
+		assertEquals(HttpStatus.OK, result.getStatusCode());
+		verify(likeCountAccumulator, never()).addRecipeLike(anyLong(), anyLong());
+	}
+
+	@Test
+	@DisplayName("레시피 좋아요 실패 - 자신이 작성한 레시피")
+	void testLikeOwnRecipe() {
+		given(recipeService.findAuthorId(10L)).willReturn(2L);
+
+		IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () ->
+			likeService.likeRecipe(10L, recipe.getUser()));
+
+		assertEquals("자신이 작성한 레시피에는 좋아요를 남길 수 없습니다.", exception.getMessage());
+	}
+
+	@Test
+	@DisplayName("레시피 좋아요 (POST) 실패 - 이미 좋아요를 누름")
+	void testAddRecipeLikeDuplicate() {
+		given(recipeService.findAuthorId(10L)).willReturn(2L);
+		given(recipeLikesRepository.insertIfAbsent(1L, 10L)).willReturn(0);
+
+		IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () ->
+			likeService.addRecipeLike(10L, user));
+
+		assertEquals("이미 좋아요를 누른 레시피입니다.", exception.getMessage());
+	}
+
+	@Test
+	@DisplayName("레시피 좋아요 해제 (DELETE) - 실제로 삭제된 경우에만 좋아요 수 감소")
+	void testUnlikeRecipe() {
+		LocalDateTime likedAt = LocalDateTime.now().minusHours(3);
+		given(recipeLikesRepository.findCreatedAt(1L, 10L)).willReturn(Optional.of(likedAt), Optional.empty());
+		given(recipeLikesRepository.deleteByUserIdAndRecipeId(1L, 10L)).willReturn(1, 0);
+
+		likeService.unlikeRecipe(10L, user);
+		likeService.unlikeRecipe(10L, user);
+
+		verify(likeCountAccumulator).addRecipeLike(10L, -1L);
+		// 인기 급상승 점수는 좋아요를 누른 시각 기준으로 뺌
+		verify(trendingRecipeTracker).recipeUnliked(10L, likedAt);
+	}
+
+	@Test
+	@DisplayName("댓글 좋아요 (PUT) - 새로 추가된 경우에만 좋아요 수 증가")
+	void testLikeComment() {
+		given(commentService.findAuthorId(20L)).willReturn(2L);
+		given(commentLikesRepository.insertIfAbsent(1L, 20L)).willReturn(1);
+
+		likeService.likeComment(20L, user);
+
+		verify(likeCountAccumulator).addCommentLike(20L, 1L);
+	}
+
+	@Test
+	@DisplayName("댓글 좋아요 해제 (DELETE) - 좋아요가 없으면 좋아요 수 유지")
+	void testUnlikeCommentNotLiked() {
+		given(commentLikesRepository.deleteByUserIdAndCommentId(1L, 20L)).willReturn(0);
+
+		ResponseEntity result = likeService.unlikeComment(20L, user);
+
+		assertEquals(HttpStatus.OK, result.getStatusCode());
+		verify(likeCountAccumulator, never()).addCommentLike(anyLong(), anyLong());
+	}
+
+	@Test
+	@DisplayName("레시피 좋아요 (PUT) - 비동기 모드에서는 큐에 넣고 202 응답")
+	void testLikeRecipeAsync() {
+		given(likeWriteBehindQueue.isEnabled()).willReturn(true);
+		given(likeWriteBehindQueue.offer(any())).willReturn(true);
+
+		ResponseEntity result = likeService.likeRecipe(10L, user);
+
+		assertEquals(HttpStatus.ACCEPTED, result.getStatusCode());
+		verify(likeWriteBehindQueue).offer(new LikeWriteBehindQueue.LikeEvent(
+			LikeWriteBehindQueue.Target.RECIPE, 10L, 1L, true));
+		// 좋아요 여부 캐시는 저장된 뒤에 갱신
+		verifyNoInteractions(recipeLikesRepository, likeCountAccumulator, likeLookupService);
+	}
+
+	@Test
+	@DisplayName("댓글 좋아요 해제 (DELETE) - 큐가 가득 차면 동기 방식으로 처리")
+	void testUnlikeCommentQueueFull() {
+		given(likeWriteBehindQueue.isEnabled()).willReturn(true);
+		given(likeWriteBehindQueue.offer(any())).willReturn(false);
+		given(commentLikesRepository.deleteByUserIdAndCommentId(1L, 20L)).willReturn(1);
+
+		ResponseEntity result = likeService.unlikeComment(20L, user);
+
+		assertEquals(HttpStatus.OK, result.getStatusCode());
+		verify(likeCountAccumulator).addCommentLike(20L, -1L);
+	}
+
+	@Test
+	@DisplayName("좋아요 (PUT) - 좋아요 여부 캐시 갱신")
+	void testLikeRecipeUpdatesLookupCache() {
+		given(recipeService.findAuthorId(10L)).willReturn(2L);
+		given(recipeLikesRepository.insertIfAbsent(1L, 10L)).willReturn(0);
+
+		likeService.likeRecipe(10L, user);
+
+		verify(likeLookupService).recipeLiked(1L, 10L, true);
+	}
+
+	@Test
+	@DisplayName("좋아요 여부 일괄 조회 실패 - 최대 개수 초과")
+	void testGetLikedRecipeIdsTooMany() {
+		List<Long> ids = LongStream.rangeClosed(1, LikeLookupService.MAX_LOOKUP_SIZE + 1).boxed().toList();
+
+		assertThrows(IllegalArgumentException.class, () -> likeService.getLikedRecipeIds(ids, user));
+	}
+}
@@ -0,0 +1,128 @@
+package com.sparta.igeomubwotna.service;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.sparta.igeomubwotna.service.LikeWriteBehindQueue.LikeEvent;
+import com.sparta.igeomubwotna.service.LikeWriteBehindQueue.Target;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class LikeWriteBehindQueueTest {
+
+	@Mock
+	private JdbcTemplate jdbcTemplate;
+
+	@Mock
+	private PlatformTransactionManager transactionManager;
+
+	@Mock
+	private RecipeResponseCache recipeResponseCache;
+
+	@Mock
+	private TrendingRecipeTracker trendingRecipeTracker;
+
+	@Mock
+	private LikeLookupService likeLookupService;
+
+	private LikeWriteBehindQueue queue;
+
+	@BeforeEach
+	void setUp() {
+		queue = new LikeWriteBehindQueue(jdbcTemplate, new TransactionTemplate(transactionManager), recipeResponseCache,
+			trendingRecipeTracker, likeLookupService, new SimpleMeterRegistry(), true, 10, 500, 3, 0);
+	}
+
+	@Test
+	@DisplayName("같은 사용자의 반복 요청은 마지막 요청만 반영하고, 실제로 바뀐 행만 좋아요 수에 반영")
+	void testWriteCoalescesAndCountsChangedRows() {
+		given(jdbcTemplate.batchUpdate(startsWith("insert ignore into recipe_likes"), anyList()))
+			.willReturn(new int[] {1, 0});
+		given(jdbcTemplate.batchUpdate(startsWith("delete from comment_likes"), anyList()))
+			.willReturn(new int[] {1});
+
+		queue.write(List.of(
+			new LikeEvent(Target.RECIPE, 10L, 1L, true),
+			new LikeEvent(Target.RECIPE, 10L, 1L, false),
+			new LikeEvent(Target.RECIPE, 10L, 1L, true),
+			// 이미 좋아요 상태 (0행 추가)
+			new LikeEvent(Target.RECIPE, 10L, 2L, true),
+			new LikeEvent(Target.COMMENT, 20L, 3L, false)));
+
+		ArgumentCaptor<List<Object[]>> likeCaptor = ArgumentCaptor.forClass(List.class);
+		verify(jdbcTemplate).batchUpdate(startsWith("insert ignore into recipe_likes"), likeCaptor.capture());
+		assertEquals(2, likeCaptor.getValue().size());
+		assertArrayEquals(new Object[] {1L, 10L, 1L}, likeCaptor.getValue().get(0));
+
+		ArgumentCaptor<List<Object[]>> recipeCaptor = ArgumentCaptor.forClass(List.class);
+		verify(jdbcTemplate).batchUpdate(eq(LikeCountAccumulator.RECIPE_UPDATE_SQL), recipeCaptor.capture());
+		assertArrayEquals(new Object[] {1L, 10L}, recipeCaptor.getValue().get(0));
+
+		ArgumentCaptor<List<Object[]>> commentCaptor = ArgumentCaptor.forClass(List.class);
+		verify(jdbcTemplate).batchUpdate(eq(LikeCountAccumulator.COMMENT_UPDATE_SQL), commentCaptor.capture());
+		assertArrayEquals(new Object[] {-1L, 20L}, commentCaptor.getValue().get(0));
+
+		verify(recipeResponseCache).evictAll(Set.of(10L));
+		verify(trendingRecipeTracker).recipeLiked(10L, 1L);
+
+		// 저장된 결과로 좋아요 여부 캐시 갱신 (추가되지 않은 좋아요는 다시 확인하도록 제거)
+		verify(likeLookupService).recipeLiked(1L, 10L, true);
+		verify(likeLookupService).forgetRecipe(2L, 10L);
+		verify(likeLookupService).commentLiked(3L, 20L, false);
+	}
+
+	@Test
+	@DisplayName("배치 저장이 실패하면 한 건씩 다시 저장하고, 계속 실패하는 요청만 버림")
+	void testWriteFallsBackToSingleEvents() {
+		given(jdbcTemplate.batchUpdate(startsWith("insert ignore into recipe_likes"), anyList())).willAnswer(invocation -> {
+			List<Object[]> args = invocation.getArgument(1);
+			// 2번 사용자의 요청은 항상 실패
+			if (args.stream().anyMatch(row -> row[0].equals(2L))) {
+				throw new DataIntegrityViolationException("Cannot add or update a child row");
+			}
+			return new int[args.size()];
+		});
+
+		queue.write(List.of(
+			new LikeEvent(Target.RECIPE, 10L, 1L, true),
+			new LikeEvent(Target.RECIPE, 11L, 2L, true)));
+
+		// 배치 1번 + 1번 사용자 1번 + 2번 사용자 3번
+		verify(jdbcTemplate, times(5)).batchUpdate(startsWith("insert ignore into recipe_likes"), anyList());
+		verify(likeLookupService).forgetRecipe(1L, 10L);
+		verify(likeLookupService, never()).forgetRecipe(eq(2L), anyLong());
+		verify(likeLookupService, never()).recipeLiked(eq(2L), anyLong(), anyBoolean());
+	}
+
+	@Test
+	@DisplayName("시작 전(비활성)에는 큐에 넣지 않음")
+	void testOfferBeforeStart() {
+		assertFalse(queue.offer(new LikeEvent(Target.RECIPE, 10L, 1L, true)));
+	}
+}
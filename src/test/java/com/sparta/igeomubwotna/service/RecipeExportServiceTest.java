@@ -0,0 +1,127 @@
+package com.sparta.igeomubwotna.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.zip.GZIPInputStream;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.sparta.igeomubwotna.entity.User;
+import com.sparta.igeomubwotna.service.RecipeExportService.Format;
+
+@ExtendWith(MockitoExtension.class)
+class RecipeExportServiceTest {
+
+	@Mock
+	private DataSource dataSource;
+
+	@Mock
+	private Connection connection;
+
+	@Mock
+	private PreparedStatement preparedStatement;
+
+	@Mock
+	private ResultSet resultSet;
+
+	@Mock
+	private LikeCountAccumulator likeCountAccumulator;
+
+	private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+		.featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+		.build();
+
+	private RecipeExportService recipeExportService;
+
+	@BeforeEach
+	void setUp() {
+		recipeExportService = new RecipeExportService(dataSource, objectMapper, likeCountAccumulator, Set.of("admin1234"));
+	}
+
+	// 레시피 한 행을 돌려주는 커서
+	private void givenOneRow(String title, String content) throws SQLException {
+		given(dataSource.getConnection()).willReturn(connection);
+		given(connection.prepareStatement(anyString())).willReturn(preparedStatement);
+		given(preparedStatement.executeQuery()).willReturn(resultSet);
+		given(resultSet.next()).willReturn(true, false);
+		given(resultSet.getLong("id")).willReturn(1L);
+		given(resultSet.getLong("user_id")).willReturn(2L);
+		given(resultSet.getString("author_user_id")).willReturn("123syihyun123");
+		given(resultSet.getString("title")).willReturn(title);
+		given(resultSet.getString("content")).willReturn(content);
+		given(resultSet.getLong("recipe_likes")).willReturn(5L);
+		given(resultSet.getTimestamp("created_at")).willReturn(Timestamp.valueOf(LocalDateTime.of(2024, 6, 1, 12, 0)));
+		given(likeCountAccumulator.getPendingRecipeLikes(1L)).willReturn(2L);
+	}
+
+	@Test
+	@DisplayName("CSV : 쉼표, 따옴표, 줄바꿈이 있는 값은 따옴표로 감쌈")
+	void testExportCsv() throws Exception {
+		givenOneRow("김치, \"매운\" 찌개", "볶는다\n끓인다");
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+		recipeExportService.export(Format.CSV, null, null, false, out);
+
+		assertEquals("id,author_id,author_user_id,title,content,likes,created_at,modified_at\n"
+				+ "1,2,123syihyun123,\"김치, \"\"매운\"\" 찌개\",\"볶는다\n끓인다\",7,2024-06-01T12:00:00,\n",
+			out.toString(StandardCharsets.UTF_8));
+	}
+
+	@Test
+	@DisplayName("NDJSON + gzip : 작성일 필터를 조건으로 전달하고, 한 줄에 레시피 하나")
+	void testExportNdjsonGzip() throws Exception {
+		givenOneRow("김치찌개", "김치를 볶는다");
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		LocalDateTime start = LocalDateTime.of(2024, 6, 1, 0, 0);
+
+		recipeExportService.export(Format.NDJSON, start, null, true, out);
+
+		verify(connection).prepareStatement(
+			"select r.id, r.user_id, u.user_id as author_user_id, r.title, r.content, r.recipe_likes, "
+				+ "r.created_at, r.modified_at from recipe r join users u on u.id = r.user_id "
+				+ "where r.deleted = false and r.created_at >= ? order by r.id");
+		verify(preparedStatement).setObject(1, start);
+
+		String body = new String(new GZIPInputStream(new ByteArrayInputStream(out.toByteArray())).readAllBytes(),
+			StandardCharsets.UTF_8);
+		assertEquals(1, body.lines().count());
+		JsonNode row = objectMapper.readTree(body);
+		assertEquals("123syihyun123", row.get("authorUserId").asText());
+		assertEquals(7L, row.get("likes").asLong());
+		assertEquals("2024-06-01T12:00:00", row.get("createdAt").asText());
+	}
+
+	@Test
+	@DisplayName("설정된 관리자가 아니면 403")
+	void testCheckAdmin() {
+		User user = new User("123syihyun123", "Qkrtlgus11!", "sihyun", "111lch_n9@df.com", "Hi");
+
+		assertThrows(ResponseStatusException.class, () -> recipeExportService.checkAdmin(user));
+	}
+}
@@ -0,0 +1,119 @@
+package com.sparta.igeomubwotna.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.sparta.igeomubwotna.dto.RecipeImportResultDto;
+import com.sparta.igeomubwotna.entity.Recipe;
+import com.sparta.igeomubwotna.entity.User;
+import com.sparta.igeomubwotna.search.RecipeSearchIndex;
+import com.sparta.igeomubwotna.search.RecipeTitleSuggester;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+import jakarta.validation.Validation;
+
+@ExtendWith(MockitoExtension.class)
+class RecipeImportServiceTest {
+
+	@Mock
+	private EntityManager entityManager;
+
+	@Mock
+	private PlatformTransactionManager transactionManager;
+
+	@Mock
+	private RecipeTitleSuggester recipeTitleSuggester;
+
+	private RecipeImportService recipeImportService;
+	private User user;
+
+	@BeforeEach
+	void setUp() {
+		Locale.setDefault(Locale.KOREAN);
+		recipeImportService = new RecipeImportService(entityManager, new TransactionTemplate(transactionManager),
+			Jackson2ObjectMapperBuilder.json().build(), Validation.buildDefaultValidatorFactory().getValidator(),
+			new RecipeLookupCache(new SimpleMeterRegistry(), 1_000, 60, 5), new RecipeSearchIndex(), recipeTitleSuggester, 2);
+
+		user = new User("123syihyun123", "Qkrtlgus11!", "sihyun", "111lch_n9@df.com", "Hi");
+		user.setId(1L);
+		given(entityManager.getReference(User.class, 1L)).willReturn(user);
+	}
+
+	private RecipeImportResultDto importLines(String... lines) throws IOException {
+		byte[] body = String.join("\n", lines).getBytes(StandardCharsets.UTF_8);
+		return recipeImportService.importRecipes(new ByteArrayInputStream(body), user);
+	}
+
+	@Test
+	@DisplayName("올바른 줄은 batch-size 개씩 저장하고, 잘못된 줄은 줄 번호와 사유를 응답")
+	void testImportRecipes() throws IOException {
+		AtomicLong nextId = new AtomicLong(100L);
+		willAnswer(invocation -> {
+			invocation.<Recipe>getArgument(0).setId(nextId.getAndIncrement());
+			return null;
+		}).given(entityManager).persist(any(Recipe.class));
+
+		RecipeImportResultDto result = importLines(
+			"{\"title\": \"김치찌개\", \"content\": \"김치를 볶는다\"}",
+			"{\"title\": \"된장찌개\"",
+			"{\"title\": \"\", \"content\": \"내용\"}",
+			"",
+			"{\"title\": \"계란말이\", \"content\": \"계란을 푼다\"}",
+			"{\"title\": \"라면\", \"content\": \"물을 끓인다\"}");
+
+		assertEquals(5, result.getTotal());
+		assertEquals(3, result.getSaved());
+		assertEquals(2, result.getFailed());
+
+		assertEquals(1, result.getResults().get(0).getLine());
+		assertEquals(100L, result.getResults().get(0).getId());
+		assertEquals("JSON 형식이 올바르지 않습니다.", result.getResults().get(1).getError());
+		assertTrue(result.getResults().get(2).getError().startsWith("title 필드"));
+		assertEquals(5, result.getResults().get(3).getLine());
+		assertEquals(6, result.getResults().get(4).getLine());
+
+		// 2개 + 1개, 두 번의 트랜잭션
+		verify(entityManager, times(3)).persist(any(Recipe.class));
+		verify(entityManager, times(2)).flush();
+		verify(entityManager, times(2)).clear();
+	}
+
+	@Test
+	@DisplayName("배치 저장이 실패하면 그 배치의 줄만 실패로 응답")
+	void testImportRecipesBatchFailure() throws IOException {
+		willThrow(new PersistenceException("Data too long")).given(entityManager).flush();
+
+		RecipeImportResultDto result = importLines(
+			"{\"title\": \"김치찌개\", \"content\": \"김치를 볶는다\"}");
+
+		assertEquals(0, result.getSaved());
+		assertEquals(1, result.getFailed());
+		assertNull(result.getResults().get(0).getId());
+		assertEquals("저장에 실패했습니다.", result.getResults().get(0).getError());
+	}
+}
@@ -0,0 +1,87 @@
+package com.sparta.igeomubwotna.service;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class RecipePurgeServiceTest {
+
+	private static final String COMMENT_IDS_SQL = "select id from comment where recipe_id = ? order by id limit ?";
+
+	@Mock
+	private JdbcTemplate jdbcTemplate;
+
+	private RecipePurgeService recipePurgeService;
+
+	@BeforeEach
+	void setUp() {
+		recipePurgeService = new RecipePurgeService(jdbcTemplate,
+			new CommentLookupCache(new SimpleMeterRegistry(), 1_000, 60, 5), 2);
+	}
+
+	@Test
+	@DisplayName("댓글 좋아요 -> 댓글 -> 레시피 좋아요 -> 레시피 순서로 chunk 단위 삭제")
+	void testPurgeInDependencyOrder() {
+		given(jdbcTemplate.queryForList(COMMENT_IDS_SQL, Long.class, 1L, 2))
+			.willReturn(List.of(10L, 11L), List.of(12L), List.of());
+		// 첫 번째 댓글 묶음의 좋아요는 2행, 1행 두 번에 나눠 삭제
+		given(jdbcTemplate.update("delete from comment_likes where comment_id in (?, ?) limit 2", 10L, 11L))
+			.willReturn(2, 1);
+		given(jdbcTemplate.update("delete from comment_likes where comment_id in (?) limit 2", 12L)).willReturn(0);
+		given(jdbcTemplate.update("delete from recipe_likes where recipe_id = ? limit 2", 1L)).willReturn(1);
+
+		assertTrue(recipePurgeService.purge(1L));
+
+		InOrder order = inOrder(jdbcTemplate);
+		order.verify(jdbcTemplate, times(2))
+			.update("delete from comment_likes where comment_id in (?, ?) limit 2", 10L, 11L);
+		order.verify(jdbcTemplate).update("delete from comment where id in (?, ?)", 10L, 11L);
+		order.verify(jdbcTemplate).update("delete from comment_likes where comment_id in (?) limit 2", 12L);
+		order.verify(jdbcTemplate).update("delete from comment where id in (?)", 12L);
+		order.verify(jdbcTemplate).update("delete from recipe_likes where recipe_id = ? limit 2", 1L);
+		order.verify(jdbcTemplate).update("delete from recipe where id = ? and deleted = true", 1L);
+	}
+
+	@Test
+	@DisplayName("삭제 중인 레시피는 sweep 에서 다시 큐에 넣지 않음")
+	void testSweepSkipsInFlight() throws InterruptedException {
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		given(jdbcTemplate.queryForList("select id from recipe where deleted = true", Long.class)).willReturn(List.of(1L));
+		given(jdbcTemplate.queryForList(COMMENT_IDS_SQL, Long.class, 1L, 2)).willAnswer(invocation -> {
+			started.countDown();
+			release.await();
+			return List.of();
+		});
+
+		recipePurgeService.sweep();
+		assertTrue(started.await(1, TimeUnit.SECONDS));
+		recipePurgeService.sweep();
+		// 동기 삭제도 진행 중인 삭제를 기다리지 않고 false 로 알려줌
+		assertFalse(recipePurgeService.purge(1L));
+		release.countDown();
+
+		verify(jdbcTemplate, timeout(1_000)).update("delete from recipe where id = ? and deleted = true", 1L);
+		verify(jdbcTemplate, times(1)).queryForList(COMMENT_IDS_SQL, Long.class, 1L, 2);
+	}
+}
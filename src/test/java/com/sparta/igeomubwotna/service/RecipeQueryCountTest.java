@@ -0,0 +1,88 @@
+package com.sparta.igeomubwotna.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.sparta.igeomubwotna.dto.RecipeRequestDto;
+import com.sparta.igeomubwotna.entity.Recipe;
+import com.sparta.igeomubwotna.entity.User;
+import com.sparta.igeomubwotna.repository.RecipeRepository;
+import com.sparta.igeomubwotna.repository.UserRepository;
+
+import jakarta.persistence.EntityManager;
+
+// 목록 조회 시 작성자 수와 관계없이 실행되는 쿼리 수가 고정인지 확인 (N+1 방지)
+@Transactional
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class RecipeQueryCountTest {
+
+	@Autowired
+	private RecipeService recipeService;
+
+	@Autowired
+	private RecipeRepository recipeRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	private Statistics statistics;
+
+	@BeforeEach
+	void setUp() {
+		// 레시피마다 작성자를 다르게 하여 N+1 이 있으면 쿼리 수가 늘어나도록 함
+		for (int i = 0; i < 25; i++) {
+			User user = userRepository.save(new User("querycount" + i, "Qkrtlgus11!", "user" + i,
+				"querycount" + i + "@igeo.com", "Hi"));
+			recipeRepository.save(new Recipe(new RecipeRequestDto("Recipe " + i, "Content " + i), user));
+		}
+		entityManager.flush();
+		entityManager.clear();
+
+		statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+	}
+
+	private long queryCount(Runnable call) {
+		statistics.clear();
+		call.run();
+		long count = statistics.getPrepareStatementCount();
+		entityManager.clear();
+		return count;
+	}
+
+	@Test
+	@DisplayName("전체 목록 조회 - 페이지마다 목록 1회 + count 1회")
+	void testGetAllRecipeQueryCount() {
+		assertEquals(2, queryCount(() -> recipeService.getAllRecipe(0, "createdAt")));
+		assertEquals(2, queryCount(() -> recipeService.getAllRecipe(1, "createdAt")));
+	}
+
+	@Test
+	@DisplayName("기간별 목록 조회 - 페이지마다 목록 1회 + count 1회")
+	void testGetDateRecipeQueryCount() {
+		String today = LocalDate.now().format(DateTimeFormatter.ofPattern("yyyyMMdd"));
+
+		assertEquals(2, queryCount(() -> recipeService.getDateRecipe(0, today, today)));
+		assertEquals(2, queryCount(() -> recipeService.getDateRecipe(1, today, today)));
+	}
+
+	@Test
+	@DisplayName("커서 목록 조회 - 페이지마다 목록 1회")
+	void testGetRecipeFeedQueryCount() {
+		assertEquals(1, queryCount(() -> recipeService.getRecipeFeed("createdAt", null)));
+	}
+}
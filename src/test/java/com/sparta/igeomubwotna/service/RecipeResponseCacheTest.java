@@ -0,0 +1,65 @@
+package com.sparta.igeomubwotna.service;
+
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.sparta.igeomubwotna.dto.RecipeResponseDto;
+import com.sparta.igeomubwotna.entity.Recipe;
+import com.sparta.igeomubwotna.entity.User;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class RecipeResponseCacheTest {
+
+	private final RecipeResponseCache recipeResponseCache = new RecipeResponseCache(new SimpleMeterRegistry(), 1_000_000, 60);
+
+	private RecipeResponseDto response;
+
+	@BeforeEach
+	void setUp() {
+		User user = new User("123syihyun123", "Qkrtlgus11!", "sihyun", "111lch_n9@df.com", "Hi");
+		response = new RecipeResponseDto(new Recipe(1L, user, "김치찌개", "맛있어요", 3L));
+	}
+
+	@Test
+	@DisplayName("제거 요청이 없으면 조회한 값을 캐시")
+	void testGetCaches() {
+		assertSame(response, recipeResponseCache.get(1L, id -> response));
+
+		assertSame(response, recipeResponseCache.getIfPresent(1L));
+	}
+
+	@Test
+	@DisplayName("조회하는 동안 좋아요 수가 반영(evictAll)되면 조회한 값은 응답에만 쓰고 캐시하지 않음")
+	void testEvictDuringLoad() throws InterruptedException {
+		Thread flusher = new Thread(() -> recipeResponseCache.evictAll(List.of(1L)));
+
+		RecipeResponseDto result = recipeResponseCache.get(1L, id -> {
+			// 이전 행을 읽은 뒤 다른 스레드에서 좋아요 수 반영 후 제거
+			flusher.start();
+			waitUntilBlockedOrDone(flusher);
+			return response;
+		});
+		flusher.join();
+
+		assertSame(response, result);
+		assertNull(recipeResponseCache.getIfPresent(1L));
+	}
+
+	private static void waitUntilBlockedOrDone(Thread thread) {
+		long deadline = System.currentTimeMillis() + 1_000;
+		while (System.currentTimeMillis() < deadline) {
+			Thread.State state = thread.getState();
+			if (state != Thread.State.NEW && state != Thread.State.RUNNABLE) {
+				return;
+			}
+			Thread.onSpinWait();
+		}
+	}
+}
@@ -2,33 +2,53 @@ package com.sparta.igeomubwotna.service;
 
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.server.ResponseStatusException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
+import com.sparta.igeomubwotna.dto.CursorResponseDto;
+import com.sparta.igeomubwotna.dto.EntityVersion;
 import com.sparta.igeomubwotna.dto.RecipeRequestDto;
 import com.sparta.igeomubwotna.dto.RecipeResponseDto;
 import com.sparta.igeomubwotna.entity.Recipe;
 import com.sparta.igeomubwotna.entity.User;
 import com.sparta.igeomubwotna.repository.RecipeRepository;
+import com.sparta.igeomubwotna.search.RecipeSearchIndex;
+import com.sparta.igeomubwotna.search.RecipeTitleSuggester;
+import com.sparta.igeomubwotna.util.PageCursor;
 
 @ExtendWith(MockitoExtension.class)
 class RecipeServiceIntegrationTest {
@@ -36,6 +56,30 @@ class RecipeServiceIntegrationTest {
 	@Mock
 	RecipeRepository recipeRepository;
 
+	@Mock
+	private LikeCountAccumulator likeCountAccumulator;
+
+	@Mock
+	private LikeLookupService likeLookupService;
+
+	@Spy
+	private RecipeResponseCache recipeResponseCache = new RecipeResponseCache(new SimpleMeterRegistry(), 1_000_000, 60);
+
+	@Spy
+	private RecipeLookupCache recipeLookupCache = new RecipeLookupCache(new SimpleMeterRegistry(), 1_000, 60, 5);
+
+	@Mock
+	private RecipePurgeService recipePurgeService;
+
+	@Spy
+	private RecipeSearchIndex recipeSearchIndex = new RecipeSearchIndex();
+
+	@Mock
+	private RecipeTitleSuggester recipeTitleSuggester;
+
+	@Mock
+	private TrendingRecipeTracker trendingRecipeTracker;
+
 	@InjectMocks
 	private RecipeService recipeService;
 
@@ -90,6 +134,59 @@ class RecipeServiceIntegrationTest {
 		assertEquals(existingRecipe.getContent(), result.getBody().getContent());
 	}
 
+	@Test
+	@DisplayName("게시물 조회 - 두 번째 조회는 캐시에서 응답하고 수정하면 다시 조회")
+	void testGetRecipeCached() {
+		given(recipeRepository.findById(1L)).willReturn(Optional.of(existingRecipe));
+		given(likeCountAccumulator.getPendingRecipeLikes(1L)).willReturn(0L, 3L, 0L);
+
+		recipeService.getRecipe(1L);
+		ResponseEntity<RecipeResponseDto> cached = recipeService.getRecipe(1L);
+
+		assertEquals(3L, cached.getBody().getRecipeLikes());
+		assertEquals(1, recipeResponseCache.getHitCount());
+
+		recipeService.editRecipe(1L, requestDto, user);
+		ResponseEntity<RecipeResponseDto> reloaded = recipeService.getRecipe(1L);
+
+		assertEquals(requestDto.getTitle(), reloaded.getBody().getTitle());
+		// 조회 3번 (캐시 적재 2번) + 수정 1번
+		verify(recipeRepository, times(3)).findById(1L);
+	}
+
+	@Test
+	@DisplayName("게시물 ETag - 캐시된 응답이 있으면 DB 조회 없이 계산하고, 좋아요 수가 바뀌면 달라짐")
+	void testGetRecipeETag() {
+		given(recipeRepository.findById(1L)).willReturn(Optional.of(existingRecipe));
+		given(recipeRepository.findVersionById(1L)).willReturn(new EntityVersion(1L, null, 0L));
+		given(likeCountAccumulator.getPendingRecipeLikes(1L)).willReturn(0L, 0L, 0L, 1L);
+
+		String beforeLoad = recipeService.getRecipeETag(1L);
+		recipeService.getRecipe(1L);
+		String cached = recipeService.getRecipeETag(1L);
+		String liked = recipeService.getRecipeETag(1L);
+
+		assertEquals(beforeLoad, cached);
+		assertNotEquals(cached, liked);
+		verify(recipeRepository, times(1)).findVersionById(1L);
+	}
+
+	@Test
+	@DisplayName("없는 게시물 반복 조회 - DB는 한 번만 조회하고, 그 id 로 새 게시물이 저장되면 다시 조회")
+	void testFindByIdMissingCached() {
+		given(recipeRepository.findById(99L)).willReturn(Optional.empty());
+		given(recipeRepository.save(any(Recipe.class))).willReturn(new Recipe(99L, user, "새 레시피", "내용", 0L));
+
+		assertThrows(IllegalArgumentException.class, () -> recipeService.findById(99L));
+		assertThrows(IllegalArgumentException.class, () -> recipeService.findById(99L));
+		verify(recipeRepository, times(1)).findById(99L);
+
+		recipeService.saveRecipe(requestDto, user);
+
+		assertThrows(IllegalArgumentException.class, () -> recipeService.findById(99L));
+		verify(recipeRepository, times(2)).findById(99L);
+	}
+
 	@Test
 	@DisplayName("게시물 수정")
 	void testEditRecipe() {
@@ -131,6 +228,7 @@ class RecipeServiceIntegrationTest {
 		ResponseEntity<String> responseEntity = ResponseEntity.status(HttpStatus.OK).body(recipeId + " 번 삭제 완료");
 
 		given(recipeRepository.findById(any(Long.class))).willReturn(Optional.of(existingRecipe));
+		given(recipePurgeService.purge(recipeId)).willReturn(true);
 
 		ResponseEntity<String> result = recipeService.deleteRecipe(recipeId, user);
 
@@ -139,6 +237,33 @@ class RecipeServiceIntegrationTest {
 		assertEquals(responseEntity.getBody(), result.getBody());
 	}
 
+	@Test
+	@DisplayName("게시물 삭제: 이미 다른 곳에서 삭제 중이면 202")
+	void testDeleteRecipeInProgress() {
+		Long recipeId = 1L;
+		given(recipeRepository.findById(recipeId)).willReturn(Optional.of(existingRecipe));
+		given(recipePurgeService.purge(recipeId)).willReturn(false);
+
+		ResponseEntity<String> result = recipeService.deleteRecipe(recipeId, user);
+
+		assertEquals(HttpStatus.ACCEPTED, result.getStatusCode());
+		verify(recipeRepository).hideById(recipeId);
+	}
+
+	@Test
+	@DisplayName("게시물 비동기 삭제: 바로 숨기고 삭제는 백그라운드에서")
+	void testDeleteRecipeAsync() {
+		Long recipeId = 1L;
+		given(recipeRepository.findById(recipeId)).willReturn(Optional.of(existingRecipe));
+
+		ResponseEntity<String> result = recipeService.deleteRecipe(recipeId, user, true);
+
+		assertEquals(HttpStatus.ACCEPTED, result.getStatusCode());
+		verify(recipeRepository).hideById(recipeId);
+		verify(recipePurgeService).purgeAsync(recipeId);
+		assertTrue(recipeLookupCache.isMissing(recipeId));
+	}
+
 	@Test
 	@DisplayName("게시물 삭제 실패: 작성자가 아님")
 	void testDeleteRecipeFailureNotAuthor() {
@@ -171,6 +296,27 @@ class RecipeServiceIntegrationTest {
 		assertNotNull(responseEntity.getBody());
 	}
 
+	@Test
+	@DisplayName("모든 게시물 조회 - 지원하는 정렬은 (정렬 값, id) 순서로 조회")
+	void testGetAllRecipeSort() {
+		given(recipeRepository.findAll(any(Pageable.class))).willReturn(Page.empty());
+
+		recipeService.getAllRecipe(0, "most-commented");
+
+		ArgumentCaptor<Pageable> pageableCaptor = ArgumentCaptor.forClass(Pageable.class);
+		verify(recipeRepository).findAll(pageableCaptor.capture());
+		assertEquals(Sort.by(Sort.Direction.DESC, "commentCount", "id"), pageableCaptor.getValue().getSort());
+	}
+
+	@Test
+	@DisplayName("모든 게시물 조회 실패 - 지원하지 않는 정렬은 조회 전에 거절")
+	void testGetAllRecipeUnsupportedSort() {
+		ResponseStatusException exception = assertThrows(ResponseStatusException.class,
+			() -> recipeService.getAllRecipe(0, "content"));
+		assertEquals(HttpStatus.BAD_REQUEST, exception.getStatusCode());
+		verify(recipeRepository, never()).findAll(any(Pageable.class));
+	}
+
 	@Test
 	@DisplayName("모든 게시물 조회 - 데이터 없음")
 	void testGetAllRecipeNoData() {
@@ -231,4 +377,125 @@ class RecipeServiceIntegrationTest {
 		assertEquals("먼저 작성하여 소식을 알려보세요!", responseEntity.getBody());
 	}
 
+	private List<Recipe> feedRecipes(int count, LocalDateTime latest) {
+		List<Recipe> recipes = new ArrayList<>();
+		for (int i = 0; i < count; i++) {
+			Recipe recipe = new Recipe((long)(count - i), user, "Recipe " + i, "Content " + i, 0L);
+			ReflectionTestUtils.setField(recipe, "createdAt", latest.minusMinutes(i));
+			recipes.add(recipe);
+		}
+		return recipes;
+	}
+
+	@Test
+	@DisplayName("커서 기반 게시물 조회 - 다음 커서 생성")
+	void testGetRecipeFeed() {
+		LocalDateTime latest = LocalDateTime.of(2024, 6, 20, 12, 0);
+		given(recipeRepository.findFeedOrderByCreatedAt(any(Pageable.class))).willReturn(feedRecipes(11, latest));
+
+		ResponseEntity responseEntity = recipeService.getRecipeFeed("createdAt", null);
+
+		assertEquals(HttpStatus.OK, responseEntity.getStatusCode());
+		CursorResponseDto<RecipeResponseDto> body = (CursorResponseDto<RecipeResponseDto>)responseEntity.getBody();
+		assertEquals(10, body.getContent().size());
+		PageCursor next = PageCursor.decode(body.getNext(), "createdAt");
+		assertEquals(latest.minusMinutes(9), next.localDateTimeValue());
+		assertEquals(2L, next.id());
+	}
+
+	@Test
+	@DisplayName("커서 기반 게시물 조회 - 마지막 페이지")
+	void testGetRecipeFeedLastPage() {
+		LocalDateTime latest = LocalDateTime.of(2024, 6, 20, 12, 0);
+		String cursor = new PageCursor("createdAt", latest.toString(), 20L).encode();
+		given(recipeRepository.findFeedOrderByCreatedAtAfterCursor(eq(latest), eq(20L), any(Pageable.class)))
+			.willReturn(feedRecipes(3, latest.minusMinutes(1)));
+
+		ResponseEntity responseEntity = recipeService.getRecipeFeed("createdAt", cursor);
+
+		CursorResponseDto<RecipeResponseDto> body = (CursorResponseDto<RecipeResponseDto>)responseEntity.getBody();
+		assertEquals(3, body.getContent().size());
+		assertNull(body.getNext());
+	}
+
+	@Test
+	@DisplayName("커서 기반 게시물 조회 - 최근 수정순 다음 커서")
+	void testGetRecipeFeedRecentlyModified() {
+		LocalDateTime latest = LocalDateTime.of(2024, 6, 20, 12, 0);
+		List<Recipe> recipes = feedRecipes(11, latest);
+		recipes.forEach(recipe -> ReflectionTestUtils.setField(recipe, "modifiedAt", recipe.getCreatedAt()));
+		String cursor = new PageCursor("modifiedAt", latest.plusMinutes(1).toString(), 30L).encode();
+		given(recipeRepository.findFeedOrderByModifiedAtAfterCursor(eq(latest.plusMinutes(1)), eq(30L), any(Pageable.class)))
+			.willReturn(recipes);
+
+		ResponseEntity responseEntity = recipeService.getRecipeFeed("recently-modified", cursor);
+
+		CursorResponseDto<RecipeResponseDto> body = (CursorResponseDto<RecipeResponseDto>)responseEntity.getBody();
+		assertEquals(10, body.getContent().size());
+		PageCursor next = PageCursor.decode(body.getNext(), "modifiedAt");
+		assertEquals(latest.minusMinutes(9), next.localDateTimeValue());
+		assertEquals(2L, next.id());
+	}
+
+	@Test
+	@DisplayName("커서 기반 게시물 조회 - 댓글 많은순 다음 커서")
+	void testGetRecipeFeedMostCommented() {
+		List<Recipe> recipes = feedRecipes(11, LocalDateTime.of(2024, 6, 20, 12, 0));
+		for (int i = 0; i < recipes.size(); i++) {
+			recipes.get(i).setCommentCount(20 - i);
+		}
+		given(recipeRepository.findFeedOrderByCommentCount(any(Pageable.class))).willReturn(recipes);
+
+		ResponseEntity responseEntity = recipeService.getRecipeFeed("most-commented", null);
+
+		CursorResponseDto<RecipeResponseDto> body = (CursorResponseDto<RecipeResponseDto>)responseEntity.getBody();
+		assertEquals(10, body.getContent().size());
+		PageCursor next = PageCursor.decode(body.getNext(), "commentCount");
+		assertEquals(11L, next.longValue());
+		assertEquals(2L, next.id());
+	}
+
+	@Test
+	@DisplayName("커서 기반 게시물 조회 실패 - 지원하지 않는 정렬")
+	void testGetRecipeFeedUnsupportedSort() {
+		ResponseStatusException exception = assertThrows(ResponseStatusException.class,
+			() -> recipeService.getRecipeFeed("title", null));
+		assertEquals(HttpStatus.BAD_REQUEST, exception.getStatusCode());
+	}
+
+	@Test
+	@DisplayName("커서 기반 게시물 조회 - 로그인 사용자의 좋아요 여부 표시")
+	void testGetRecipeFeedLikedByMe() {
+		LocalDateTime latest = LocalDateTime.of(2024, 6, 20, 12, 0);
+		given(recipeRepository.findFeedOrderByCreatedAt(any(Pageable.class))).willReturn(feedRecipes(3, latest));
+		given(likeLookupService.findLikedRecipeIds(eq(user.getId()), any())).willReturn(Set.of(2L));
+
+		ResponseEntity responseEntity = recipeService.getRecipeFeed("createdAt", null, user);
+
+		CursorResponseDto<RecipeResponseDto> body = (CursorResponseDto<RecipeResponseDto>)responseEntity.getBody();
+		assertEquals(false, body.getContent().get(0).getLikedByMe());
+		assertEquals(true, body.getContent().get(1).getLikedByMe());
+		assertEquals(false, body.getContent().get(2).getLikedByMe());
+	}
+
+	@Test
+	@DisplayName("게시물 검색 - 색인 순위대로 응답")
+	void testSearchRecipes() {
+		Recipe other = new Recipe(2L, user, "김치볶음밥", "밥을 볶는다", 0L);
+		recipeSearchIndex.index(1L, existingRecipe.getTitle(), existingRecipe.getContent());
+		recipeSearchIndex.index(2L, other.getTitle(), other.getContent());
+		given(recipeRepository.findAllWithUserByIdIn(List.of(2L))).willReturn(List.of(other));
+
+		ResponseEntity responseEntity = recipeService.searchRecipes("김치 볶음", 0, null);
+
+		Page<RecipeResponseDto> body = (Page<RecipeResponseDto>)responseEntity.getBody();
+		assertEquals(1, body.getTotalElements());
+		assertEquals("김치볶음밥", body.getContent().get(0).getTitle());
+	}
+
+	@Test
+	@DisplayName("게시물 검색 실패 - 빈 검색어")
+	void testSearchRecipesBlankQuery() {
+		assertThrows(IllegalArgumentException.class, () -> recipeService.searchRecipes(" ", 0, null));
+	}
 }
@@ -0,0 +1,109 @@
+package com.sparta.igeomubwotna.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.sparta.igeomubwotna.service.TrendingRecipeTracker.TrendingRecipe;
+import com.sparta.igeomubwotna.service.TrendingRecipeTracker.Window;
+
+class TrendingRecipeTrackerTest {
+
+	private static final long HOUR = 60 * 60 * 1000L;
+
+	private final TrendingRecipeTracker tracker = new TrendingRecipeTracker(1, 2, 3);
+	private final long start = System.currentTimeMillis();
+
+	private List<Long> trendingIds(Window window, long now) {
+		return tracker.getTrending(window, 10, now).stream().map(TrendingRecipe::recipeId).toList();
+	}
+
+	@Test
+	@DisplayName("최근 이벤트가 오래된 이벤트보다 크게 반영되고, 기간마다 순위가 다름")
+	void testDecay() {
+		// 1번 : 10시간 전에 좋아요 5개, 2번 : 방금 좋아요 1개
+		for (int i = 0; i < 5; i++) {
+			tracker.record(1L, 1, start);
+		}
+		long now = start + 10 * HOUR;
+		tracker.record(2L, 1, now);
+
+		assertEquals(List.of(2L, 1L), trendingIds(Window.HOUR, now));
+		assertEquals(List.of(1L, 2L), trendingIds(Window.DAY, now));
+		assertEquals(5 * Math.exp(-10.0 / 24), tracker.getTrending(Window.DAY, 1, now).get(0).score(), 1e-9);
+	}
+
+	@Test
+	@DisplayName("좋아요 해제는 점수를 빼고, 0 이하가 되거나 삭제되면 목록에서 제외")
+	void testUnlikeAndRemove() {
+		tracker.record(1L, 1, start);
+		tracker.record(2L, 2, start);
+		tracker.record(3L, 1, start);
+		tracker.record(1L, -1, start);
+
+		assertEquals(List.of(2L, 3L), trendingIds(Window.HOUR, start));
+
+		tracker.remove(2L);
+		assertEquals(List.of(3L), trendingIds(Window.HOUR, start));
+	}
+
+	@Test
+	@DisplayName("오래된 좋아요를 새 좋아요 뒤에 해제하면 오래된 좋아요의 감쇠된 점수만 뺌")
+	void testOldUnlikeAfterNewLike() {
+		// 1번 : 10시간 전 좋아요 1개, 방금 좋아요 1개, 그 뒤 10시간 전 좋아요를 해제
+		tracker.record(1L, 1, start);
+		long now = start + 10 * HOUR;
+		tracker.record(1L, 1, now);
+		tracker.record(1L, -1, start, now);
+
+		assertEquals(1.0, tracker.getTrending(Window.HOUR, 1, now).get(0).score(), 1e-9);
+		assertEquals(1.0, tracker.getTrending(Window.DAY, 1, now).get(0).score(), 1e-9);
+	}
+
+	@Test
+	@DisplayName("추적하지 않는 레시피의 해제는 무시")
+	void testUnlikeUntracked() {
+		tracker.record(1L, -1, start, start + HOUR);
+
+		assertEquals(List.of(), trendingIds(Window.HOUR, start + HOUR));
+	}
+
+	@Test
+	@DisplayName("추적하는 레시피 수를 넘으면 점수가 가장 낮은 레시피를 버림")
+	void testMaxTracked() {
+		tracker.record(1L, 3, start);
+		tracker.record(2L, 1, start);
+		tracker.record(3L, 2, start);
+		tracker.record(4L, 4, start);
+
+		assertEquals(List.of(4L, 1L, 3L), trendingIds(Window.HOUR, start));
+	}
+
+	@Test
+	@DisplayName("prune 후에도 순위와 점수는 그대로, 거의 0이 된 레시피는 제거")
+	void testPrune() {
+		tracker.record(1L, 1, start);
+		tracker.record(2L, 3, start + HOUR);
+		long now = start + 6 * HOUR;
+
+		List<TrendingRecipe> before = tracker.getTrending(Window.HOUR, 10, now);
+		tracker.prune(now);
+		List<TrendingRecipe> after = tracker.getTrending(Window.HOUR, 10, now);
+
+		// 1번 : e^-6 ≈ 0.0025 < 0.01 이므로 제거
+		assertEquals(List.of(2L), after.stream().map(TrendingRecipe::recipeId).toList());
+		assertEquals(before.get(0).score(), after.get(0).score(), 1e-9);
+		assertEquals(List.of(2L, 1L), trendingIds(Window.DAY, now));
+	}
+
+	@Test
+	@DisplayName("지원하지 않는 기간")
+	void testWindowFrom() {
+		assertEquals(Window.DAY, Window.from("day"));
+		assertThrows(IllegalArgumentException.class, () -> Window.from("week"));
+	}
+}
@@ -5,6 +5,7 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
 
 import java.util.Optional;
 
@@ -20,7 +21,9 @@ import org.springframework.security.core.userdetails.UsernameNotFoundException;
 
 import com.sparta.igeomubwotna.entity.User;
 import com.sparta.igeomubwotna.repository.UserRepository;
+import com.sparta.igeomubwotna.security.UserDetailsImpl;
 import com.sparta.igeomubwotna.security.UserDetailsServiceImpl;
+import com.sparta.igeomubwotna.security.UserPrincipalCache;
 
 @ExtendWith(MockitoExtension.class)
 class UserDetailsServiceImplTest {
@@ -28,6 +31,9 @@ class UserDetailsServiceImplTest {
 	@Mock
 	private UserRepository userRepository;
 
+	@Mock
+	private UserPrincipalCache principalCache;
+
 	@InjectMocks
 	private UserDetailsServiceImpl userDetailsService;
 
@@ -62,4 +68,16 @@ class UserDetailsServiceImplTest {
 
 		assertEquals("User not found with userId: " + userId, exception.getMessage());
 	}
+
+	@Test
+	@DisplayName("updatePassword 테스트 : 다시 인코딩된 비밀번호 저장 후 캐시 제거")
+	void testUpdatePassword() {
+		given(userRepository.findByUserId(anyString())).willReturn(Optional.of(user));
+
+		UserDetails result = userDetailsService.updatePassword(new UserDetailsImpl(user), "rehashedPassword");
+
+		assertEquals("rehashedPassword", result.getPassword());
+		verify(userRepository).save(user);
+		verify(principalCache).evict(user.getUserId());
+	}
 }
@@ -0,0 +1,165 @@
+package com.sparta.igeomubwotna.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.sparta.igeomubwotna.entity.UserPurgeCheckpoint;
+import com.sparta.igeomubwotna.entity.UserPurgeCheckpoint.Phase;
+import com.sparta.igeomubwotna.repository.UserPurgeCheckpointRepository;
+import com.sparta.igeomubwotna.search.RecipeSearchIndex;
+import com.sparta.igeomubwotna.search.RecipeTitleSuggester;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class UserPurgeServiceTest {
+
+	private static final String HIDDEN_RECIPE_IDS_SQL =
+		"select id from recipe where user_id = ? and deleted = false order by id limit ?";
+	private static final String RECIPE_IDS_SQL = "select id from recipe where user_id = ? and id > ? order by id limit ?";
+
+	@Mock
+	private JdbcTemplate jdbcTemplate;
+
+	@Mock
+	private UserPurgeCheckpointRepository checkpointRepository;
+
+	@Mock
+	private LikeCountAccumulator likeCountAccumulator;
+
+	@Mock
+	private RecipeResponseCache recipeResponseCache;
+
+	@Mock
+	private RecipeTitleSuggester recipeTitleSuggester;
+
+	@Mock
+	private RecipePurgeService recipePurgeService;
+
+	private CommentLookupCache commentLookupCache;
+
+	private UserPurgeService userPurgeService;
+
+	@BeforeEach
+	void setUp() {
+		commentLookupCache = new CommentLookupCache(new SimpleMeterRegistry(), 1_000, 60, 5);
+		userPurgeService = new UserPurgeService(jdbcTemplate, checkpointRepository, likeCountAccumulator,
+			recipeResponseCache, new RecipeLookupCache(new SimpleMeterRegistry(), 1_000, 60, 5), new RecipeSearchIndex(),
+			new TrendingRecipeTracker(1, 2, 100), recipeTitleSuggester, recipePurgeService,
+			commentLookupCache, 30, 100, 0);
+		given(checkpointRepository.save(any(UserPurgeCheckpoint.class))).willAnswer(invocation -> invocation.getArgument(0));
+	}
+
+	@Test
+	@DisplayName("회원이 누른 좋아요를 지우면 대상의 좋아요 수도 줄임")
+	void testPurgeUserDecreasesLikeCounts() {
+		given(checkpointRepository.findById(1L)).willReturn(Optional.empty());
+		given(jdbcTemplate.queryForList("select id, recipe_id as target_id from recipe_likes where user_id = ? order by id limit ?",
+			1L, 100)).willReturn(List.of(Map.of("id", 5L, "target_id", 10L), Map.of("id", 6L, "target_id", 11L)), List.of());
+
+		userPurgeService.purgeUser(1L);
+
+		verify(jdbcTemplate).update("delete from recipe_likes where id in (?, ?)", 5L, 6L);
+		verify(likeCountAccumulator).addRecipeLike(10L, -1L);
+		verify(likeCountAccumulator).addRecipeLike(11L, -1L);
+		verify(jdbcTemplate).update("delete from users where id = ? and status = ?", 1L, "WITHDRAWN");
+	}
+
+	@Test
+	@DisplayName("체크포인트가 있으면 끝난 단계는 건너뛰고 이어서 진행")
+	void testPurgeUserResumesFromCheckpoint() {
+		given(checkpointRepository.findById(1L)).willReturn(Optional.of(new UserPurgeCheckpoint(1L, Phase.RECIPES)));
+		// HIDE_RECIPES 가 없던 체크포인트 : 아직 숨기지 않은 레시피부터 숨김
+		given(jdbcTemplate.queryForList(HIDDEN_RECIPE_IDS_SQL, Long.class, 1L, 100)).willReturn(List.of(10L, 11L), List.of());
+		given(jdbcTemplate.queryForList(RECIPE_IDS_SQL, Long.class, 1L, 0L, 100)).willReturn(List.of(10L, 11L));
+		given(jdbcTemplate.queryForList(RECIPE_IDS_SQL, Long.class, 1L, 11L, 100)).willReturn(List.of());
+		given(recipePurgeService.purge(any(Long.class))).willReturn(true);
+
+		userPurgeService.purgeUser(1L);
+
+		verify(jdbcTemplate, never()).queryForList(argThat((String sql) -> sql.contains("from recipe_likes")), any(Object[].class));
+		verify(jdbcTemplate, never()).update(argThat((String sql) -> sql.startsWith("delete from comment")), any(Object[].class));
+
+		InOrder order = inOrder(jdbcTemplate, recipePurgeService, checkpointRepository);
+		order.verify(jdbcTemplate).update("update recipe set deleted = true where id in (?, ?)", 10L, 11L);
+		order.verify(recipePurgeService).purge(10L);
+		order.verify(recipePurgeService).purge(11L);
+		order.verify(checkpointRepository).save(argThat(checkpoint -> checkpoint.getPhase() == Phase.USER));
+		order.verify(checkpointRepository).deleteById(1L);
+		order.verify(jdbcTemplate).update("delete from users where id = ? and status = ?", 1L, "WITHDRAWN");
+		verify(recipeResponseCache).evictAll(List.of(10L, 11L));
+		verify(recipeTitleSuggester).markDirty();
+	}
+
+	@Test
+	@DisplayName("레시피를 먼저 숨기고, 단계 사이에 달린 좋아요가 있어도 레시피 삭제에서 딸린 데이터부터 지움")
+	void testPurgeUserHidesRecipesFirst() {
+		given(checkpointRepository.findById(1L)).willReturn(Optional.empty());
+		given(jdbcTemplate.queryForList(HIDDEN_RECIPE_IDS_SQL, Long.class, 1L, 100)).willReturn(List.of(10L), List.of());
+		given(jdbcTemplate.queryForList(RECIPE_IDS_SQL, Long.class, 1L, 0L, 100)).willReturn(List.of(10L));
+		given(jdbcTemplate.queryForList(RECIPE_IDS_SQL, Long.class, 1L, 10L, 100)).willReturn(List.of());
+		// RECIPE_LIKES 단계 이후에 달린 좋아요는 RecipePurgeService 가 레시피보다 먼저 지움
+		given(recipePurgeService.purge(10L)).willReturn(true);
+
+		userPurgeService.purgeUser(1L);
+
+		InOrder order = inOrder(jdbcTemplate, recipePurgeService);
+		order.verify(jdbcTemplate).update("update recipe set deleted = true where id in (?)", 10L);
+		order.verify(jdbcTemplate).update("delete from recipe_likes where recipe_id in " +
+			"(select id from recipe where user_id = ?) limit 100", 1L);
+		order.verify(recipePurgeService).purge(10L);
+		order.verify(jdbcTemplate).update("delete from users where id = ? and status = ?", 1L, "WITHDRAWN");
+		verify(jdbcTemplate, never()).update(argThat((String sql) -> sql.startsWith("delete from recipe where")), any(Object[].class));
+	}
+
+	@Test
+	@DisplayName("댓글은 좋아요부터 지운 뒤 삭제하고 댓글 조회 캐시에서도 제거")
+	void testPurgeUserEvictsDeletedComments() {
+		given(checkpointRepository.findById(1L)).willReturn(Optional.of(new UserPurgeCheckpoint(1L, Phase.COMMENTS)));
+		given(jdbcTemplate.queryForList("select id from comment where user_id = ? order by id limit ?", Long.class, 1L, 100))
+			.willReturn(List.of(20L, 21L), List.of());
+		commentLookupCache.putAuthorId(20L, 1L);
+		commentLookupCache.putAuthorId(21L, 1L);
+
+		userPurgeService.purgeUser(1L);
+
+		InOrder order = inOrder(jdbcTemplate);
+		order.verify(jdbcTemplate).update("delete from comment_likes where comment_id in (?, ?) limit 100", 20L, 21L);
+		order.verify(jdbcTemplate).update("delete from comment where id in (?, ?)", 20L, 21L);
+		assertEquals(Optional.empty(), commentLookupCache.getAuthorId(20L, id -> Optional.empty()));
+		assertEquals(Optional.empty(), commentLookupCache.getAuthorId(21L, id -> Optional.empty()));
+	}
+
+	@Test
+	@DisplayName("다른 곳에서 삭제 중인 레시피가 있으면 회원을 지우지 않고 RECIPES 단계에서 다시 시도")
+	void testPurgeUserRetriesWhenRecipePurgeInFlight() {
+		given(checkpointRepository.findById(1L)).willReturn(Optional.of(new UserPurgeCheckpoint(1L, Phase.RECIPE_LIKES)));
+		given(jdbcTemplate.queryForList(RECIPE_IDS_SQL, Long.class, 1L, 0L, 100)).willReturn(List.of(10L));
+		given(jdbcTemplate.queryForList(RECIPE_IDS_SQL, Long.class, 1L, 10L, 100)).willReturn(List.of());
+		given(recipePurgeService.purge(10L)).willReturn(false);
+
+		assertThrows(IllegalStateException.class, () -> userPurgeService.purgeUser(1L));
+
+		verify(checkpointRepository, never()).save(argThat(checkpoint -> checkpoint.getPhase() == Phase.USER));
+		verify(jdbcTemplate, never()).update("delete from users where id = ? and status = ?", 1L, "WITHDRAWN");
+	}
+}
@@ -7,6 +7,7 @@ import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 
 import java.util.Optional;
 
@@ -28,7 +29,9 @@ import com.sparta.igeomubwotna.dto.SignupRequestDto;
 import com.sparta.igeomubwotna.dto.UserProfileDto;
 import com.sparta.igeomubwotna.dto.UserUpdateRequestDto;
 import com.sparta.igeomubwotna.entity.User;
+import com.sparta.igeomubwotna.jwt.TokenRevocationStore;
 import com.sparta.igeomubwotna.repository.UserRepository;
+import com.sparta.igeomubwotna.security.UserPrincipalCache;
 
 @ExtendWith(MockitoExtension.class)
 class UserServiceIntegrationTest {
@@ -39,6 +42,12 @@ class UserServiceIntegrationTest {
 	@Mock
 	private PasswordEncoder passwordEncoder;
 
+	@Mock
+	private UserPrincipalCache principalCache;
+
+	@Mock
+	private TokenRevocationStore revocationStore;
+
 	@InjectMocks
 	private UserService userService;
 
@@ -190,6 +199,8 @@ class UserServiceIntegrationTest {
 		assertNotNull(result);
 		assertEquals(responseEntity.getStatusCode(), result.getStatusCode());
 		assertEquals(responseEntity.getBody().getMessage(), result.getBody().getMessage());
+		verify(principalCache).evict(user.getUserId());  // 로그아웃 시 캐시된 인증 정보 제거 확인
+		verify(revocationStore).revoke(user.getUserId(), 1L);  // 이전 AccessToken 무효화 확인
 	}
 
 	@Test
@@ -0,0 +1,42 @@
+package com.sparta.igeomubwotna.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class PageCursorTest {
+
+	@Test
+	@DisplayName("커서 인코딩 후 디코딩")
+	void testEncodeDecode() {
+		LocalDateTime createdAt = LocalDateTime.of(2024, 6, 16, 12, 30, 15, 123456000);
+		String encoded = new PageCursor("createdAt", createdAt.toString(), 42L).encode();
+
+		PageCursor decoded = PageCursor.decode(encoded, "createdAt");
+
+		assertEquals(createdAt, decoded.localDateTimeValue());
+		assertEquals(42L, decoded.id());
+	}
+
+	@Test
+	@DisplayName("다른 정렬 기준의 커서는 사용 불가")
+	void testDecodeSortKeyMismatch() {
+		String encoded = new PageCursor("recipeLikes", "3", 42L).encode();
+
+		IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () ->
+			PageCursor.decode(encoded, "createdAt"));
+
+		assertEquals("잘못된 커서입니다.", exception.getMessage());
+	}
+
+	@Test
+	@DisplayName("형식이 잘못된 커서는 사용 불가")
+	void testDecodeInvalid() {
+		assertThrows(IllegalArgumentException.class, () -> PageCursor.decode("not-a-cursor", "createdAt"));
+		assertThrows(IllegalArgumentException.class, () -> PageCursor.decode("%%%", "createdAt"));
+	}
+}